@@ -1,9 +1,17 @@
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 interface Observer {
     void update(int temp);
 }
 
+// Receives readings in batches. Only temps[0, count) holds readings, and the array is reused for the
+// next delivery: it is valid only for the duration of the call, so copy it to keep the readings.
+interface BatchObserver {
+    void update(int[] temps, int count);
+}
+
 class MobileApp implements Observer {
     public void update(int temp) { System.out.println("📱 App: Temp = " + temp); }
 }
@@ -12,20 +20,246 @@ class DisplayBoard implements Observer {
     public void update(int temp) { System.out.println("🖥 Board: Temp = " + temp); }
 }
 
-class WeatherStation {
-    private List<Observer> observers = new ArrayList<>();
-    public void addObserver(Observer o) { observers.add(o); }
+class ChartFeed implements BatchObserver {
+    public void update(int[] temps, int count) {
+        System.out.println("📈 Chart: " + count + " samples, last = " + temps[count - 1]);
+    }
+}
+
+// Delivers readings to one subscriber on the station's executor, never on the producer thread.
+// At most one drain per subscription is queued or running, so each subscriber sees updates in order.
+abstract class Subscription implements Runnable {
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Executor executor;
+    volatile boolean cancelled;
+
+    Subscription(Executor executor) { this.executor = executor; }
+
+    abstract Object subscriber();
+    abstract void offer(int sequence, int temp);
+    abstract boolean hasPending();
+    abstract void drain();
+
+    void signal() {
+        if (!scheduled.get() && scheduled.compareAndSet(false, true)) executor.execute(this);
+    }
+
+    public void run() {
+        do {
+            if (!cancelled) drain();
+            scheduled.set(false);
+        } while (!cancelled && hasPending() && scheduled.compareAndSet(false, true));
+    }
+}
+
+// Keeps only the latest reading: a slow observer skips stale values instead of queueing them.
+class ConflatingSubscription extends Subscription {
+    private final Observer observer;
+    private final AtomicLong latest = new AtomicLong(); // sequence in the high half, reading in the low half
+    private int deliveredSequence;
+
+    ConflatingSubscription(Observer observer, Executor executor) {
+        super(executor);
+        this.observer = observer;
+    }
+
+    Object subscriber() { return observer; }
+
+    void offer(int sequence, int temp) {
+        latest.set(((long) sequence << 32) | (temp & 0xFFFFFFFFL));
+        signal();
+    }
+
+    boolean hasPending() { return (int) (latest.get() >>> 32) != deliveredSequence; }
+
+    void drain() {
+        long value = latest.get();
+        int sequence = (int) (value >>> 32);
+        if (sequence == deliveredSequence) return;
+        deliveredSequence = sequence;
+        observer.update((int) value);
+    }
+}
+
+// Single-producer/single-consumer int ring; readings are handed over in batches without boxing.
+// When the ring is full the newest reading is dropped and counted.
+class BatchSubscription extends Subscription {
+    private final BatchObserver observer;
+    private final int[] ring;
+    private final int[] batch;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    BatchSubscription(BatchObserver observer, int capacity, Executor executor) {
+        super(executor);
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.observer = observer;
+        this.ring = new int[size];
+        this.batch = new int[size];
+        this.mask = size - 1;
+    }
+
+    Object subscriber() { return observer; }
+
+    void offer(int sequence, int temp) {
+        long t = tail.get();
+        if (t - head.get() == ring.length) {
+            dropped.incrementAndGet();
+        } else {
+            ring[(int) (t & mask)] = temp;
+            tail.lazySet(t + 1);
+        }
+        signal();
+    }
+
+    boolean hasPending() { return head.get() != tail.get(); }
+
+    void drain() {
+        long h = head.get();
+        long t = tail.get();
+        if (h == t) return;
+        int count = (int) (t - h);
+        for (int i = 0; i < count; i++) batch[i] = ring[(int) ((h + i) & mask)];
+        head.lazySet(t);
+        observer.update(batch, count); // same array every time, see BatchObserver
+    }
+
+    long dropped() { return dropped.get(); }
+}
+
+// Fan-out engine: readings come from one producer thread, and the copy-on-write registry is read without locks.
+// Isolation: Observers may be slow or block; they run on their own pool, where a slow one only delays other
+// Observers, which conflate to the latest reading. BatchObservers run on a separate pool and must not block,
+// so slow Observers can never starve them; a batch consumer that falls behind loses readings, counted in dropped().
+class WeatherStation implements AutoCloseable {
+    private static final Subscription[] NONE = new Subscription[0];
+    private final AtomicReference<Subscription[]> subscriptions = new AtomicReference<>(NONE);
+    private final ExecutorService observerExecutor;
+    private final ExecutorService batchExecutor;
+    private int sequence;
+
+    WeatherStation() { this(Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().availableProcessors()); }
+
+    WeatherStation(int observerThreads, int batchThreads) {
+        observerExecutor = newPool(observerThreads, "weather-observer");
+        batchExecutor = newPool(batchThreads, "weather-batch");
+    }
+
+    public void addObserver(Observer o) { register(new ConflatingSubscription(o, observerExecutor)); }
+
+    public void addBatchObserver(BatchObserver o, int capacity) { register(new BatchSubscription(o, capacity, batchExecutor)); }
+
+    public void removeObserver(Object o) {
+        Subscription[] current, next;
+        do {
+            current = subscriptions.get();
+            List<Subscription> kept = new ArrayList<>();
+            for (Subscription s : current) {
+                if (s.subscriber() == o) s.cancelled = true;
+                else kept.add(s);
+            }
+            next = kept.toArray(NONE);
+        } while (!subscriptions.compareAndSet(current, next));
+    }
+
     public void setTemperature(int temp) {
-        System.out.println("WeatherStation: New Temp = " + temp);
-        for (Observer o : observers) o.update(temp);
+        int seq = ++sequence;
+        for (Subscription s : subscriptions.get()) s.offer(seq, temp);
+    }
+
+    // Readings a batch observer could not keep up with, over all current batch subscriptions
+    public long dropped() {
+        long total = 0;
+        for (Subscription s : subscriptions.get()) {
+            if (s instanceof BatchSubscription) total += ((BatchSubscription) s).dropped();
+        }
+        return total;
+    }
+
+    public void close() {
+        observerExecutor.shutdown();
+        batchExecutor.shutdown();
+        try {
+            observerExecutor.awaitTermination(5, TimeUnit.SECONDS);
+            batchExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ExecutorService newPool(int threads, String name) {
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    private void register(Subscription s) {
+        Subscription[] current, next;
+        do {
+            current = subscriptions.get();
+            next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = s;
+        } while (!subscriptions.compareAndSet(current, next));
+    }
+}
+
+// Producer throughput with 1 to 1000 subscribers, half of them slow (1 ms per update) conflating observers.
+// Batch deliveries and drops are reported separately, so loss at the batch consumers cannot hide in the totals.
+class FanOutBenchmark {
+    static void run() {
+        for (int subscribers : new int[] { 1, 10, 100, 1000 }) {
+            WeatherStation ws = new WeatherStation();
+            LongAdder observed = new LongAdder();
+            LongAdder batched = new LongAdder();
+            for (int i = 0; i < subscribers; i++) {
+                if (i % 2 == 0) ws.addObserver(temp -> { observed.increment(); sleep(1); });
+                else ws.addBatchObserver((temps, count) -> batched.add(count), 1024);
+            }
+            for (int i = 0; i < 100_000; i++) ws.setTemperature(i);
+            observed.reset();
+            batched.reset();
+            long droppedBefore = ws.dropped();
+
+            long published = 0;
+            long start = System.nanoTime();
+            long end = start + TimeUnit.SECONDS.toNanos(1);
+            while (System.nanoTime() < end) {
+                for (int i = 0; i < 1000; i++) ws.setTemperature(i);
+                published += 1000;
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            int batchSubscribers = subscribers / 2;
+            long expected = published * batchSubscribers;
+            long dropped = ws.dropped() - droppedBefore;
+            System.out.printf("%4d subscribers: %,12.0f readings/s, %,14.0f batch deliveries/s, %,12d batch drops (%.2f%%),"
+                    + " %,10.0f observer updates/s%n",
+                subscribers, published / seconds, batched.sum() / seconds, dropped,
+                expected == 0 ? 0.0 : 100.0 * dropped / expected, observed.sum() / seconds);
+            ws.close();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try { Thread.sleep(millis); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
     }
 }
 
 public class WeatherDemo {
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--bench")) {
+            FanOutBenchmark.run();
+            return;
+        }
         WeatherStation ws = new WeatherStation();
         ws.addObserver(new MobileApp());
         ws.addObserver(new DisplayBoard());
+        ws.addBatchObserver(new ChartFeed(), 64);
+        System.out.println("WeatherStation: New Temp = 25");
         ws.setTemperature(25);
+        ws.close();
     }
 }
@@ -1,13 +1,30 @@
+import audit.AuditRecord;
+import audit.AuditStore;
 import manager.ScheduleManager;
+import observers.AuditObserver;
 import observers.ConflictObserver;
 import observers.LoggerObserver;
+import replication.ReplicationLog;
+import replication.ReplicationShipper;
 
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.List;
 import java.util.Scanner;
 import java.util.logging.Logger;
 
 public class Main {
     private static final Logger logger = Logger.getLogger(Main.class.getName());
+    private static final long AUDIT_SEGMENT_BYTES = 1024 * 1024;
+    // Kept apart from the audit/ source package; override with -Dastronaut.audit.dir=<path>
+    private static final String AUDIT_DIR_PROPERTY = "astronaut.audit.dir";
+    private static final String DEFAULT_AUDIT_DIR = "audit-history";
+    private static final int REPLICATION_BACKLOG = 4096;
 
     public static void main(String[] args) {
         logger.info("Application started");
@@ -18,6 +35,16 @@ public class Main {
         // Register observers
         manager.addObserver(new ConflictObserver());
         manager.addObserver(new LoggerObserver());
+        AuditStore auditStore = openAuditStore();
+        if (auditStore != null) {
+            manager.addObserver(new AuditObserver(auditStore));
+        }
+        ReplicationShipper shipper = null;
+        if (args.length == 2 && args[0].equals("--replicate")) {
+            shipper = startReplication(manager, args[1]);
+        }
+
+        manager.startReminderTimer(1, TimeUnit.SECONDS);
 
         Scanner scanner = new Scanner(System.in);
         boolean running = true;
@@ -50,6 +77,9 @@ public class Main {
                         viewByPriorityMenu(scanner, manager);
                         break;
                     case "7":
+                        taskHistoryMenu(scanner, auditStore);
+                        break;
+                    case "8":
                         running = false;
                         System.out.println("Exiting... Safe travels, astronaut! 🚀");
                         logger.info("Application terminated by user");
@@ -65,6 +95,59 @@ public class Main {
         }
 
         scanner.close();
+        manager.stopReminderTimer();
+        closeAuditStore(auditStore);
+        stopReplication(shipper);
+    }
+
+    /**
+     * Replicates the schedule to a file that a follower (java replication.FollowerDemo <file>) tails
+     */
+    private static ReplicationShipper startReplication(ScheduleManager manager, String file) {
+        try {
+            FileChannel channel = FileChannel.open(Paths.get(file),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            ReplicationLog replicationLog = new ReplicationLog(manager::getTasks, REPLICATION_BACKLOG);
+            manager.addObserver(replicationLog);
+            ReplicationShipper shipper = new ReplicationShipper(replicationLog, channel);
+            shipper.start(200, TimeUnit.MILLISECONDS);
+            logger.info("Replicating schedule to " + file);
+            return shipper;
+        } catch (IOException e) {
+            logger.warning("Replication unavailable: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void stopReplication(ReplicationShipper shipper) {
+        if (shipper == null) {
+            return;
+        }
+        try {
+            shipper.close();
+        } catch (IOException e) {
+            logger.warning("Failed to ship final replication deltas: " + e.getMessage());
+        }
+    }
+
+    private static AuditStore openAuditStore() {
+        try {
+            return new AuditStore(Paths.get(System.getProperty(AUDIT_DIR_PROPERTY, DEFAULT_AUDIT_DIR)), AUDIT_SEGMENT_BYTES, Clock.systemDefaultZone());
+        } catch (IOException e) {
+            logger.warning("Audit history unavailable: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void closeAuditStore(AuditStore auditStore) {
+        if (auditStore == null) {
+            return;
+        }
+        try {
+            auditStore.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close audit history: " + e.getMessage());
+        }
     }
 
     private static void displayMenu() {
@@ -75,8 +158,9 @@ public class Main {
         System.out.println("4. Edit Task");
         System.out.println("5. Mark Task as Completed");
         System.out.println("6. View Tasks by Priority");
-        System.out.println("7. Exit");
-        System.out.println("please choose the number(1-7)");
+        System.out.println("7. View Task History");
+        System.out.println("8. Exit");
+        System.out.println("please choose the number(1-8)");
         System.out.print("Enter your choice: ");
     }
 
@@ -138,4 +222,30 @@ public class Main {
             System.out.println("Error: Invalid priority level.");
         }
     }
+
+    private static void taskHistoryMenu(Scanner scanner, AuditStore auditStore) {
+        if (auditStore == null) {
+            System.out.println("Error: Task history is unavailable.");
+            return;
+        }
+
+        System.out.print("Enter task description: ");
+        String description = scanner.nextLine().trim();
+
+        try {
+            List<AuditRecord> records = auditStore.historyToday(description);
+            if (records.isEmpty()) {
+                System.out.println("No history for task today: " + description);
+                return;
+            }
+            System.out.println("\n=== History: " + description + " ===");
+            for (AuditRecord record : records) {
+                System.out.println(record);
+            }
+            System.out.println("====================================\n");
+        } catch (IOException e) {
+            System.out.println("Error: Could not read task history.");
+            logger.warning("Failed to read audit history: " + e.getMessage());
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package audit;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * A single schedule event as recorded in the audit history
+ */
+public class AuditRecord {
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final long timestamp;
+    private final String event;
+    private final String taskId;
+    private final String description;
+    private final ZoneId zone;
+
+    /**
+     * @param zone Zone the timestamp is displayed in, normally the audit store's clock zone
+     */
+    public AuditRecord(long timestamp, String event, String taskId, String description, ZoneId zone) {
+        this.timestamp = timestamp;
+        this.event = event;
+        this.taskId = taskId;
+        this.description = description;
+        this.zone = zone;
+    }
+
+    public long getTimestamp() { return timestamp; }
+    public String getEvent() { return event; }
+    public String getTaskId() { return taskId; }
+    public String getDescription() { return description; }
+
+    /**
+     * Checks whether this record refers to the task with the given id or description
+     */
+    public boolean matches(String taskKey) {
+        return taskId.equals(taskKey) || description.equalsIgnoreCase(taskKey);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s: %s", TIMESTAMP_FORMAT.format(Instant.ofEpochMilli(timestamp).atZone(zone)), event, description);
+    }
+}
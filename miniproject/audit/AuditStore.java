@@ -0,0 +1,291 @@
+package audit;
+
+import utils.ValidationHelper;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Append-only audit history of schedule events stored as rotating segments.
+ *
+ * Records are appended to an active segment; once it reaches the size limit (or the record budget its
+ * index filter was sized for) it is sealed:
+ * gzip-compressed and given a sparse index (time range and task-key Bloom filter).
+ * History queries consult the indexes and only decompress segments that may hold matching records.
+ * Appending touches only the active segment, so its cost does not grow with the history.
+ * Every append is flushed to the segment file before it returns.
+ */
+public class AuditStore implements AutoCloseable {
+    private static final Pattern SEGMENT_NAME = Pattern.compile("audit-(\\d+)\\.(seg|idx)");
+    // Smallest realistic record: timestamp, short event name, UUID and a one-character description
+    private static final int MIN_RECORD_BYTES = 56;
+
+    private final Path directory;
+    private final long maxSegmentBytes;
+    private final int maxSegmentRecords;
+    private final Clock clock;
+    private final List<Segment> sealed;
+    private Segment active;
+    private DataOutputStream out;
+    private final ByteArrayOutputStream recordBuffer = new ByteArrayOutputStream();
+    private final DataOutputStream recordOut = new DataOutputStream(recordBuffer);
+
+    private static final class Segment {
+        private final int number;
+        private final SegmentIndex index;
+
+        private Segment(int number, SegmentIndex index) {
+            this.number = number;
+            this.index = index;
+        }
+    }
+
+    /**
+     * Opens the store, sealing any segment left unsealed by a previous run
+     */
+    public AuditStore(Path directory, long maxSegmentBytes, Clock clock) throws IOException {
+        if (maxSegmentBytes <= 0) {
+            throw new IllegalArgumentException("Segment size must be positive");
+        }
+        this.directory = directory;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.maxSegmentRecords = (int) Math.min(Integer.MAX_VALUE, Math.max(1, maxSegmentBytes / MIN_RECORD_BYTES));
+        this.clock = clock;
+        this.sealed = new ArrayList<>();
+        Files.createDirectories(directory);
+
+        TreeSet<Integer> numbers = new TreeSet<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "audit-*")) {
+            for (Path file : files) {
+                Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    numbers.add(Integer.parseInt(matcher.group(1)));
+                }
+            }
+        }
+        for (int number : numbers) {
+            recover(number);
+        }
+        openSegment(numbers.isEmpty() ? 1 : numbers.last() + 1);
+    }
+
+    /**
+     * Appends an event to the history, timestamped with the store's clock.
+     * Descriptions longer than ValidationHelper.MAX_DESCRIPTION_LENGTH are truncated.
+     */
+    public synchronized void append(String event, String taskId, String description) throws IOException {
+        long timestamp = clock.millis();
+        String recorded = fitDescription(description);
+        // Encode the whole record before writing it, so a field writeUTF rejects never leaves a
+        // partial record in the segment that would misalign every record after it
+        recordBuffer.reset();
+        recordOut.writeLong(timestamp);
+        recordOut.writeUTF(event);
+        recordOut.writeUTF(taskId);
+        recordOut.writeUTF(recorded);
+        recordBuffer.writeTo(out);
+        out.flush();
+        active.index.add(timestamp, taskId, recorded);
+
+        if (out.size() >= maxSegmentBytes || active.index.getRecordCount() >= maxSegmentRecords) {
+            out.close();
+            seal(active);
+            openSegment(active.number + 1);
+        }
+    }
+
+    /**
+     * Returns the recorded events for a task, oldest first.
+     * A description is first resolved to the ids of the tasks recorded under it, so the result also
+     * holds the events those tasks recorded under earlier or later descriptions (e.g. before an edit).
+     * @param taskKey Task id or description (case-insensitive)
+     * @param fromMillis Start of the time window (inclusive)
+     * @param toMillis End of the time window (inclusive)
+     */
+    public synchronized List<AuditRecord> history(String taskKey, long fromMillis, long toMillis)
+            throws IOException {
+        Set<String> taskIds = new HashSet<>();
+        for (AuditRecord record : read(Collections.singleton(taskKey), fromMillis, toMillis,
+                record -> record.matches(taskKey))) {
+            taskIds.add(record.getTaskId());
+        }
+        if (taskIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return read(taskIds, fromMillis, toMillis, record -> taskIds.contains(record.getTaskId()));
+    }
+
+    /**
+     * Returns the recorded events for a task since the start of the current day
+     */
+    public List<AuditRecord> historyToday(String taskKey) throws IOException {
+        long startOfDay = LocalDate.now(clock).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+        return history(taskKey, startOfDay, Long.MAX_VALUE);
+    }
+
+    public synchronized int getSealedSegmentCount() {
+        return sealed.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+
+    private void openSegment(int number) throws IOException {
+        active = new Segment(number, new SegmentIndex(maxSegmentRecords));
+        out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(segmentFile(number),
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)));
+    }
+
+    /**
+     * Brings a segment found on disk to the sealed state.
+     * Sealing writes the .gz, then the .idx, then deletes the .seg, so a surviving .seg without
+     * an .idx means sealing never finished and is redone from the raw records.
+     */
+    private void recover(int number) throws IOException {
+        Path raw = segmentFile(number);
+        Path index = indexFile(number);
+        if (Files.exists(index)) {
+            Files.deleteIfExists(raw);
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(index)))) {
+                sealed.add(new Segment(number, SegmentIndex.readFrom(in)));
+            }
+            return;
+        }
+
+        Segment segment = new Segment(number, new SegmentIndex(maxSegmentRecords));
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(raw)))) {
+            AuditRecord record;
+            while ((record = readRecord(in)) != null) {
+                segment.index.add(record);
+            }
+        }
+        if (segment.index.getRecordCount() == 0) {
+            Files.delete(raw);
+            return;
+        }
+        seal(segment);
+    }
+
+    private void seal(Segment segment) throws IOException {
+        Path raw = segmentFile(segment.number);
+        Path compressed = compressedFile(segment.number);
+        Path compressedTmp = directory.resolve(compressed.getFileName() + ".tmp");
+        try (OutputStream gzip = new GZIPOutputStream(Files.newOutputStream(compressedTmp))) {
+            Files.copy(raw, gzip);
+        }
+        Files.move(compressedTmp, compressed, StandardCopyOption.REPLACE_EXISTING);
+
+        Path index = indexFile(segment.number);
+        Path indexTmp = directory.resolve(index.getFileName() + ".tmp");
+        try (DataOutputStream indexOut = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexTmp)))) {
+            segment.index.writeTo(indexOut);
+        }
+        Files.move(indexTmp, index, StandardCopyOption.REPLACE_EXISTING);
+        Files.delete(raw);
+        sealed.add(segment);
+    }
+
+    private static String fitDescription(String description) {
+        if (description.length() <= ValidationHelper.MAX_DESCRIPTION_LENGTH) {
+            return description;
+        }
+        int end = ValidationHelper.MAX_DESCRIPTION_LENGTH;
+        if (Character.isHighSurrogate(description.charAt(end - 1))) {
+            end--;
+        }
+        return description.substring(0, end);
+    }
+
+    /**
+     * Reads the records within [from, to] that pass the filter, from every segment whose index
+     * may hold one of the keys
+     */
+    private List<AuditRecord> read(Collection<String> keys, long from, long to, Predicate<AuditRecord> filter)
+            throws IOException {
+        List<AuditRecord> result = new ArrayList<>();
+        for (Segment segment : sealed) {
+            if (mightContainAny(segment.index, keys, from, to)) {
+                try (InputStream in = new GZIPInputStream(Files.newInputStream(compressedFile(segment.number)))) {
+                    collect(in, from, to, filter, result);
+                }
+            }
+        }
+        if (mightContainAny(active.index, keys, from, to)) {
+            try (InputStream in = Files.newInputStream(segmentFile(active.number))) {
+                collect(in, from, to, filter, result);
+            }
+        }
+        return result;
+    }
+
+    private static boolean mightContainAny(SegmentIndex index, Collection<String> keys, long from, long to) {
+        for (String key : keys) {
+            if (index.mightContain(key, from, to)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void collect(InputStream stream, long from, long to, Predicate<AuditRecord> filter,
+            List<AuditRecord> result) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        AuditRecord record;
+        while ((record = readRecord(in)) != null) {
+            if (record.getTimestamp() >= from && record.getTimestamp() <= to && filter.test(record)) {
+                result.add(record);
+            }
+        }
+    }
+
+    /**
+     * @return the next record, or null at end of segment (including a record truncated by a crash)
+     */
+    private AuditRecord readRecord(DataInputStream in) throws IOException {
+        try {
+            return new AuditRecord(in.readLong(), in.readUTF(), in.readUTF(), in.readUTF(), clock.getZone());
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    private Path segmentFile(int number) {
+        return directory.resolve(String.format("audit-%06d.seg", number));
+    }
+
+    private Path compressedFile(int number) {
+        return directory.resolve(String.format("audit-%06d.seg.gz", number));
+    }
+
+    private Path indexFile(int number) {
+        return directory.resolve(String.format("audit-%06d.idx", number));
+    }
+}
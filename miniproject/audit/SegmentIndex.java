@@ -0,0 +1,131 @@
+package audit;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Sparse index of one audit segment: its time range plus a Bloom filter over the task ids and
+ * descriptions it mentions. Lets a query skip a segment without decompressing it.
+ * The filter is sized for the segment's record budget at about 10 bits per key (two keys per record),
+ * which keeps the false-positive rate near 1% once the segment is full.
+ */
+final class SegmentIndex {
+    private static final int KEYS_PER_RECORD = 2;
+    private static final int BITS_PER_KEY = 10;
+    private static final int HASHES = 7;
+
+    private final long[] filter;
+    private final int filterBits;
+    private long minTimestamp = Long.MAX_VALUE;
+    private long maxTimestamp = Long.MIN_VALUE;
+    private int recordCount;
+
+    /**
+     * @param expectedRecords Number of records the segment may hold before it is sealed
+     */
+    SegmentIndex(int expectedRecords) {
+        this(new long[filterWords(expectedRecords)]);
+    }
+
+    private SegmentIndex(long[] filter) {
+        this.filter = filter;
+        this.filterBits = filter.length * 64;
+    }
+
+    void add(AuditRecord record) {
+        add(record.getTimestamp(), record.getTaskId(), record.getDescription());
+    }
+
+    void add(long timestamp, String taskId, String description) {
+        minTimestamp = Math.min(minTimestamp, timestamp);
+        maxTimestamp = Math.max(maxTimestamp, timestamp);
+        recordCount++;
+        addKey(taskId.hashCode());
+        addKey(caseInsensitiveHash(description));
+    }
+
+    /**
+     * @return false only if the segment certainly holds no record for the key within [from, to]
+     */
+    boolean mightContain(String taskKey, long from, long to) {
+        if (recordCount == 0 || maxTimestamp < from || minTimestamp > to) {
+            return false;
+        }
+        return mightContainKey(taskKey.hashCode()) || mightContainKey(caseInsensitiveHash(taskKey));
+    }
+
+    int getRecordCount() {
+        return recordCount;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeLong(minTimestamp);
+        out.writeLong(maxTimestamp);
+        out.writeInt(recordCount);
+        out.writeInt(filter.length);
+        for (long word : filter) {
+            out.writeLong(word);
+        }
+    }
+
+    static SegmentIndex readFrom(DataInput in) throws IOException {
+        long minTimestamp = in.readLong();
+        long maxTimestamp = in.readLong();
+        int recordCount = in.readInt();
+        int words = in.readInt();
+        if (words <= 0) {
+            throw new IOException("Corrupt audit index: filter size " + words);
+        }
+        SegmentIndex index = new SegmentIndex(new long[words]);
+        index.minTimestamp = minTimestamp;
+        index.maxTimestamp = maxTimestamp;
+        index.recordCount = recordCount;
+        for (int i = 0; i < words; i++) {
+            index.filter[i] = in.readLong();
+        }
+        return index;
+    }
+
+    private static int filterWords(int expectedRecords) {
+        long bits = (long) Math.max(1, expectedRecords) * KEYS_PER_RECORD * BITS_PER_KEY;
+        return (int) Math.min(Integer.MAX_VALUE / 64, (bits + 63) / 64);
+    }
+
+    private void addKey(int h1) {
+        int h2 = secondHash(h1);
+        for (int i = 0; i < HASHES; i++) {
+            int bit = Math.floorMod(h1 + i * h2, filterBits);
+            filter[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    private boolean mightContainKey(int h1) {
+        int h2 = secondHash(h1);
+        for (int i = 0; i < HASHES; i++) {
+            int bit = Math.floorMod(h1 + i * h2, filterBits);
+            if ((filter[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * String hash with each char case-folded the way equalsIgnoreCase compares them, so any two
+     * descriptions that AuditRecord.matches treats as equal hash alike; computed without a lowercase copy
+     */
+    private static int caseInsensitiveHash(String key) {
+        int h = 0;
+        for (int i = 0; i < key.length(); i++) {
+            h = 31 * h + Character.toLowerCase(Character.toUpperCase(key.charAt(i)));
+        }
+        return h;
+    }
+
+    private static int secondHash(int h) {
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        return h | 1;
+    }
+}
@@ -0,0 +1,97 @@
+package bench;
+
+import audit.AuditStore;
+import manager.ScheduleManager;
+import observers.AuditObserver;
+import observers.ConflictObserver;
+import observers.LoggerObserver;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+
+/**
+ * Measures heap allocation per add/complete/remove cycle with the observers Main registers
+ * (console, log file at WARNING, audit history) and fails if it exceeds the budget.
+ *
+ * Run: java bench.AllocationCheck
+ */
+public class AllocationCheck {
+    /**
+     * Covers the Task with its id, its reminder node and the three console messages,
+     * plus the amortized cost of sealing audit segments
+     */
+    private static final long BUDGET_BYTES_PER_CYCLE = 512;
+    private static final int WARMUP_CYCLES = 50_000;
+    private static final int MEASURED_CYCLES = 100_000;
+    private static final long AUDIT_SEGMENT_BYTES = 1024 * 1024;
+
+    public static void main(String[] args) throws IOException {
+        if (System.getProperty(LoggerObserver.LOG_LEVEL_PROPERTY) == null) {
+            System.setProperty(LoggerObserver.LOG_LEVEL_PROPERTY, "WARNING");
+        }
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        Path auditDirectory = Files.createTempDirectory("allocation-check");
+        AuditStore auditStore = new AuditStore(auditDirectory, AUDIT_SEGMENT_BYTES, Clock.systemDefaultZone());
+        ScheduleManager manager = ScheduleManager.getInstance();
+        manager.addObserver(new ConflictObserver());
+        manager.addObserver(new LoggerObserver());
+        manager.addObserver(new AuditObserver(auditStore));
+
+        PrintStream console = System.out;
+        long allocated;
+        try {
+            System.setOut(new PrintStream(new OutputStream() {
+                @Override
+                public void write(int b) {
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                }
+            }, true, "UTF-8"));
+            runCycles(manager, WARMUP_CYCLES);
+            long before = threads.getThreadAllocatedBytes(threadId);
+            runCycles(manager, MEASURED_CYCLES);
+            allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        } finally {
+            System.setOut(console);
+            auditStore.close();
+            deleteDirectory(auditDirectory);
+        }
+
+        long perCycle = allocated / MEASURED_CYCLES;
+        System.out.println("Allocated per add/complete/remove cycle: " + perCycle
+            + " B (budget " + BUDGET_BYTES_PER_CYCLE + " B)");
+        if (perCycle > BUDGET_BYTES_PER_CYCLE) {
+            throw new IllegalStateException("Allocation budget exceeded: " + perCycle + " B per cycle");
+        }
+    }
+
+    private static void runCycles(ScheduleManager manager, int cycles) {
+        for (int i = 0; i < cycles; i++) {
+            if (!manager.addTask("Allocation Check", "07:00", "08:00", "HIGH")
+                    || !manager.markTaskCompleted("Allocation Check")
+                    || !manager.removeTask("Allocation Check")) {
+                throw new IllegalStateException("Schedule operation failed in cycle " + i);
+            }
+        }
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+}
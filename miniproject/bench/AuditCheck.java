@@ -0,0 +1,135 @@
+package bench;
+
+import audit.AuditRecord;
+import audit.AuditStore;
+import utils.ValidationHelper;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checks the audit history end to end:
+ * descriptions too long for a single writeUTF field must not corrupt the records after them
+ * (in the active segment, after sealing, or after reopening the store); a task's history must survive
+ * renames across segments; timestamps must be shown in the store's clock zone.
+ *
+ * Run: java bench.AuditCheck
+ */
+public class AuditCheck {
+    private static final long SEGMENT_BYTES = 256 * 1024;
+
+    private static final long SMALL_SEGMENT_BYTES = 1024;
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Files.createTempDirectory("audit-check");
+        try {
+            checkOversizedDescriptions(directory);
+        } finally {
+            deleteDirectory(directory);
+        }
+        directory = Files.createTempDirectory("audit-check");
+        try {
+            checkRenamedTask(directory);
+        } finally {
+            deleteDirectory(directory);
+        }
+        directory = Files.createTempDirectory("audit-check");
+        try {
+            checkTimestampZone(directory);
+        } finally {
+            deleteDirectory(directory);
+        }
+        System.out.println("Audit check passed");
+    }
+
+    private static void checkOversizedDescriptions(Path directory) throws IOException {
+        String ascii = repeat('x', 70_000);
+        String threeByte = repeat('\u20AC', 25_000);
+        try (AuditStore store = new AuditStore(directory, SEGMENT_BYTES, Clock.systemDefaultZone())) {
+            store.append("ADDED", "long-ascii", ascii);
+            store.append("ADDED", "long-euro", threeByte);
+            store.append("ADDED", "small", "Small");
+            expectReadable(store, "active segment");
+
+            // Fill the segment so the long records are sealed and compressed
+            for (int i = 0; store.getSealedSegmentCount() == 0; i++) {
+                store.append("ADDED", "filler-" + i, "Filler " + i);
+            }
+            expectReadable(store, "sealed segment");
+        }
+        try (AuditStore reopened = new AuditStore(directory, SEGMENT_BYTES, Clock.systemDefaultZone())) {
+            expectReadable(reopened, "reopened store");
+        }
+    }
+
+    private static void checkRenamedTask(Path directory) throws IOException {
+        try (AuditStore store = new AuditStore(directory, SMALL_SEGMENT_BYTES, Clock.systemDefaultZone())) {
+            store.append("ADDED", "lunch-id", "Lunch");
+            store.append("ADDED", "dinner-id", "Dinner");
+            // Seal the original name into an earlier segment than the rename
+            for (int i = 0; store.getSealedSegmentCount() == 0; i++) {
+                store.append("ADDED", "filler-" + i, "Filler " + i);
+            }
+            store.append("UPDATED", "lunch-id", "Lunch2");
+            store.append("REMOVED", "lunch-id", "Lunch2");
+
+            for (String key : new String[] { "Lunch2", "lunch", "lunch-id" }) {
+                List<AuditRecord> records = store.historyToday(key);
+                expect(records.size() == 3
+                        && records.get(0).getEvent().equals("ADDED")
+                        && records.get(1).getEvent().equals("UPDATED")
+                        && records.get(2).getEvent().equals("REMOVED"),
+                    "history across a rename", "query " + key + " returned " + records);
+            }
+        }
+    }
+
+    private static void checkTimestampZone(Path directory) throws IOException {
+        // 23:30 UTC is already 08:30 the next day in Tokyo, the store's zone
+        Clock clock = Clock.fixed(Instant.parse("2026-03-01T23:30:00Z"), ZoneId.of("Asia/Tokyo"));
+        try (AuditStore store = new AuditStore(directory, SEGMENT_BYTES, clock)) {
+            store.append("ADDED", "zone-id", "Breakfast");
+            List<AuditRecord> records = store.historyToday("Breakfast");
+            expect(records.size() == 1 && records.get(0).toString().startsWith("2026-03-02 08:30:00 ADDED"),
+                "timestamp in the clock zone", "got " + records);
+        }
+    }
+
+    private static void expectReadable(AuditStore store, String stage) throws IOException {
+        expect(store.historyToday("Small").size() == 1, "record after oversized descriptions", stage);
+        List<AuditRecord> ascii = store.historyToday("long-ascii");
+        expect(ascii.size() == 1 && ascii.get(0).getDescription().length() == ValidationHelper.MAX_DESCRIPTION_LENGTH,
+            "truncated ASCII description", stage);
+        List<AuditRecord> euro = store.historyToday("long-euro");
+        expect(euro.size() == 1 && euro.get(0).getDescription().length() == ValidationHelper.MAX_DESCRIPTION_LENGTH,
+            "truncated multi-byte description", stage);
+    }
+
+    private static void expect(boolean condition, String what, String stage) {
+        if (!condition) {
+            throw new IllegalStateException("Audit check failed: " + what + " (" + stage + ")");
+        }
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+}
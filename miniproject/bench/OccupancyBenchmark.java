@@ -0,0 +1,172 @@
+package bench;
+
+import manager.OccupancyBitmap;
+import tasks.Priority;
+import tasks.Task;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Checks OccupancyBitmap against a boolean[] reference model, then compares its conflict and
+ * utilization queries with the Task.overlapsWith loop ScheduleManager used before.
+ *
+ * Run: java bench.OccupancyBenchmark
+ * With the Vector API kernel: java --add-modules jdk.incubator.vector bench.OccupancyBenchmark
+ */
+public class OccupancyBenchmark {
+    private static final int CHECK_ROUNDS = 2000;
+    private static final int QUERIES = 1 << 16;
+    private static final int MEASURE_ROUNDS = 5;
+
+    public static void main(String[] args) {
+        System.out.println("Kernel: " + OccupancyBitmap.kernelName());
+        checkAgainstReference(new Random(1));
+        System.out.println("Reference check passed (" + CHECK_ROUNDS + " random schedules)");
+
+        for (int taskCount : new int[] { 8, 32, 128, 480 }) {
+            benchmark(taskCount, new Random(taskCount));
+        }
+    }
+
+    private static void checkAgainstReference(Random random) {
+        for (int round = 0; round < CHECK_ROUNDS; round++) {
+            OccupancyBitmap bitmap = new OccupancyBitmap();
+            boolean[] busy = new boolean[OccupancyBitmap.MINUTES_PER_DAY];
+            int operations = random.nextInt(20);
+            for (int op = 0; op < operations; op++) {
+                int start = random.nextInt(busy.length);
+                int end = start + random.nextInt(busy.length - start + 1);
+                boolean occupy = random.nextBoolean();
+                if (occupy) {
+                    bitmap.occupy(start, end);
+                } else {
+                    bitmap.release(start, end);
+                }
+                for (int i = start; i < end; i++) {
+                    busy[i] = occupy;
+                }
+            }
+
+            int total = 0;
+            int longest = 0;
+            int current = 0;
+            for (boolean minute : busy) {
+                if (minute) {
+                    total++;
+                    longest = Math.max(longest, current);
+                    current = 0;
+                } else {
+                    current++;
+                }
+            }
+            longest = Math.max(longest, current);
+            expect(bitmap.busyMinutes() == total, "busyMinutes", round);
+            expect(bitmap.longestFreeGap() == longest, "longestFreeGap", round);
+
+            double[] utilization = bitmap.utilizationPerHour();
+            for (int hour = 0; hour < 24; hour++) {
+                int hourBusy = 0;
+                for (int i = hour * 60; i < hour * 60 + 60; i++) {
+                    hourBusy += busy[i] ? 1 : 0;
+                }
+                expect(utilization[hour] == hourBusy / 60.0, "utilizationPerHour", round);
+            }
+
+            for (int query = 0; query < 16; query++) {
+                int start = random.nextInt(busy.length);
+                int end = start + random.nextInt(busy.length - start + 1);
+                boolean free = true;
+                int count = 0;
+                for (int i = start; i < end; i++) {
+                    free &= !busy[i];
+                    count += busy[i] ? 1 : 0;
+                }
+                expect(bitmap.isFree(start, end) == free, "isFree", round);
+                expect(bitmap.busyMinutes(start, end) == count, "busyMinutes(range)", round);
+            }
+        }
+    }
+
+    private static void benchmark(int taskCount, Random random) {
+        // Evenly spaced, non-overlapping tasks, as ScheduleManager would hold them
+        List<Task> tasks = new ArrayList<>();
+        OccupancyBitmap bitmap = new OccupancyBitmap();
+        int slot = OccupancyBitmap.MINUTES_PER_DAY / taskCount;
+        for (int i = 0; i < taskCount; i++) {
+            int start = i * slot;
+            int end = start + Math.max(1, slot / 2);
+            tasks.add(new Task("task" + i, time(start), time(end), Priority.LOW));
+            bitmap.occupy(start, end);
+        }
+
+        // Distinct bitmaps so the JIT cannot hoist the loop-invariant popcount out of the timing loop
+        OccupancyBitmap[] variants = new OccupancyBitmap[8];
+        for (int v = 0; v < variants.length; v++) {
+            variants[v] = bitmap.copy();
+            variants[v].occupy(v * 100, v * 100 + v + 1);
+        }
+
+        Task[] candidates = new Task[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            int start = random.nextInt(OccupancyBitmap.MINUTES_PER_DAY - 1);
+            int end = start + 1 + random.nextInt(Math.min(120, OccupancyBitmap.MINUTES_PER_DAY - 1 - start));
+            candidates[i] = new Task("candidate", time(start), time(end), Priority.LOW);
+        }
+
+        long sink = 0;
+        long loopNanos = Long.MAX_VALUE;
+        long bitmapNanos = Long.MAX_VALUE;
+        long sumNanos = Long.MAX_VALUE;
+        long popcountNanos = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            long t0 = System.nanoTime();
+            for (Task candidate : candidates) {
+                for (Task existing : tasks) {
+                    if (candidate.overlapsWith(existing)) {
+                        sink++;
+                        break;
+                    }
+                }
+            }
+            long t1 = System.nanoTime();
+            for (Task candidate : candidates) {
+                if (!bitmap.isFree(candidate.getStartTime(), candidate.getEndTime())) {
+                    sink++;
+                }
+            }
+            long t2 = System.nanoTime();
+            for (int i = 0; i < QUERIES; i++) {
+                for (Task task : tasks) {
+                    sink += OccupancyBitmap.toMinute(task.getEndTime()) - OccupancyBitmap.toMinute(task.getStartTime());
+                }
+            }
+            long t3 = System.nanoTime();
+            for (int i = 0; i < QUERIES; i++) {
+                sink += variants[i & 7].busyMinutes();
+            }
+            long t4 = System.nanoTime();
+            loopNanos = Math.min(loopNanos, t1 - t0);
+            bitmapNanos = Math.min(bitmapNanos, t2 - t1);
+            sumNanos = Math.min(sumNanos, t3 - t2);
+            popcountNanos = Math.min(popcountNanos, t4 - t3);
+        }
+
+        System.out.printf("%3d tasks: conflict check %7.1f ns overlapsWith loop vs %5.1f ns bitmap;"
+                + " busy minutes %7.1f ns task sum vs %5.1f ns popcount (sink %d)%n",
+            taskCount, (double) loopNanos / QUERIES, (double) bitmapNanos / QUERIES,
+            (double) sumNanos / QUERIES, (double) popcountNanos / QUERIES, sink % 10);
+    }
+
+    private static LocalTime time(int minute) {
+        return LocalTime.of(minute / 60, minute % 60);
+    }
+
+    private static void expect(boolean condition, String what, int round) {
+        if (!condition) {
+            throw new IllegalStateException(what + " disagrees with the reference model in round " + round);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package bench;
+
+import reminders.ReminderScheduler;
+import reminders.TimingWheel;
+import tasks.Priority;
+import tasks.Task;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Drives TimingWheel and ReminderScheduler with a stepping clock:
+ * the wheel is checked against a model of when every reminder is due (including deadlines that
+ * cascade across level boundaries or lie beyond the wheel's range), then the scheduler is taken
+ * through schedule, cancel, reschedule and reminders that are dropped because their task already started.
+ *
+ * Run: java bench.ReminderCheck
+ */
+public class ReminderCheck {
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_ROUNDS = 200;
+    // Ticks at which an entry moves up a level (64, 64^2, 64^3) and the wheel's full range (64^4 - 1)
+    private static final long[] BOUNDARIES = { 64, 4096, 262_144, 16_777_215 };
+
+    /**
+     * Clock that only moves when told to
+     */
+    private static final class SteppingClock extends Clock {
+        private final ZoneId zone;
+        private long millis;
+
+        private SteppingClock(Instant start, ZoneId zone) {
+            this.millis = start.toEpochMilli();
+            this.zone = zone;
+        }
+
+        void set(Instant instant) { millis = instant.toEpochMilli(); }
+        void advance(Duration duration) { millis += duration.toMillis(); }
+
+        @Override public ZoneId getZone() { return zone; }
+        @Override public Clock withZone(ZoneId zone) { throw new UnsupportedOperationException(); }
+        @Override public long millis() { return millis; }
+        @Override public Instant instant() { return Instant.ofEpochMilli(millis); }
+    }
+
+    public static void main(String[] args) {
+        checkWheelAgainstModel(new Random(1));
+        System.out.println("Timing wheel check passed (" + WHEEL_ROUNDS + " random schedules)");
+        checkScheduler();
+        checkSchedulerCascade();
+        System.out.println("Reminder scheduler check passed");
+    }
+
+    /**
+     * Every scheduled, uncancelled entry must fire exactly once, in the first advance that reaches
+     * its deadline tick (or the wheel's current tick, for deadlines already passed when scheduled)
+     */
+    private static void checkWheelAgainstModel(Random random) {
+        for (int round = 0; round < WHEEL_ROUNDS; round++) {
+            long now = Math.abs(random.nextLong() % (1L << 40));
+            TimingWheel wheel = new TimingWheel(TICK_MILLIS, now);
+            long wheelTick = now / TICK_MILLIS;
+            boolean farDeadlines = round % 20 == 0;
+
+            Map<Task, Long> dueTick = new IdentityHashMap<>();
+            Map<Task, TimingWheel.Timeout> timeouts = new IdentityHashMap<>();
+            List<Task> fired = new ArrayList<>();
+            int created = 0;
+
+            for (int step = 0; step < 400 || !dueTick.isEmpty(); step++) {
+                if (step < 400) {
+                    int additions = random.nextInt(4);
+                    for (int i = 0; i < additions; i++) {
+                        Task task = new Task("T" + round + "-" + created++, LocalTime.MIDNIGHT, LocalTime.NOON, Priority.LOW);
+                        long deadline = now + randomDelayTicks(random, farDeadlines) * TICK_MILLIS
+                            + random.nextInt((int) TICK_MILLIS) - TICK_MILLIS;
+                        timeouts.put(task, wheel.schedule(task, deadline));
+                        dueTick.put(task, Math.max(Math.floorDiv(deadline, TICK_MILLIS), wheelTick));
+                    }
+                    if (!dueTick.isEmpty() && random.nextInt(4) == 0) {
+                        Task victim = dueTick.keySet().iterator().next();
+                        expect(wheel.cancel(timeouts.get(victim)), "cancel of a pending entry", round);
+                        expect(!wheel.cancel(timeouts.get(victim)), "second cancel", round);
+                        dueTick.remove(victim);
+                    }
+                }
+
+                now += nextStepMillis(random, dueTick, now, step);
+                long nowTick = now / TICK_MILLIS;
+                fired.clear();
+                int count = wheel.advanceTo(now, fired::add);
+                expect(count == fired.size(), "fired count", round);
+                for (Task task : fired) {
+                    Long due = dueTick.remove(task);
+                    expect(due != null, "entry fired twice or after cancel", round);
+                    expect(due <= nowTick, "entry fired before its deadline", round);
+                }
+                for (long due : dueTick.values()) {
+                    expect(due > nowTick, "due entry did not fire", round);
+                }
+                expect(wheel.size() == dueTick.size(), "wheel size", round);
+                wheelTick = Math.max(wheelTick, nowTick + 1);
+            }
+        }
+    }
+
+    /**
+     * Delay in ticks, biased to land on and around the level boundaries
+     */
+    private static long randomDelayTicks(Random random, boolean farDeadlines) {
+        switch (random.nextInt(4)) {
+            case 0:
+                return random.nextInt(130) - 2;
+            case 1: {
+                int levels = farDeadlines ? BOUNDARIES.length : BOUNDARIES.length - 1;
+                return BOUNDARIES[random.nextInt(levels)] + random.nextInt(5) - 2;
+            }
+            case 2:
+                return random.nextInt(300_000);
+            default:
+                return farDeadlines ? BOUNDARIES[3] + random.nextInt(1_000_000) : random.nextInt(5000);
+        }
+    }
+
+    /**
+     * Mostly short steps, sometimes a jump to (or just before) the next deadline, so both
+     * tick-by-tick and long catch-up advances are exercised
+     */
+    private static long nextStepMillis(Random random, Map<Task, Long> dueTick, long now, int step) {
+        if (step >= 400 && !dueTick.isEmpty()) {
+            long next = Long.MAX_VALUE;
+            for (long due : dueTick.values()) {
+                next = Math.min(next, due);
+            }
+            long target = next * TICK_MILLIS + random.nextInt((int) TICK_MILLIS);
+            return Math.max(TICK_MILLIS / 2, target - now - (random.nextBoolean() ? TICK_MILLIS : 0));
+        }
+        switch (random.nextInt(3)) {
+            case 0: return random.nextInt((int) TICK_MILLIS);
+            case 1: return TICK_MILLIS * (1 + random.nextInt(70));
+            default: return TICK_MILLIS * random.nextInt(5000);
+        }
+    }
+
+    private static void checkScheduler() {
+        SteppingClock clock = new SteppingClock(Instant.parse("2026-03-02T08:00:00Z"), ZoneOffset.UTC);
+        List<Task> reminded = new ArrayList<>();
+        ReminderScheduler scheduler = new ReminderScheduler(clock, Duration.ofMinutes(5), reminded::add);
+
+        Task briefing = task("Briefing", "09:00", "09:30");
+        scheduler.schedule(briefing);
+        clock.set(Instant.parse("2026-03-02T08:54:59Z"));
+        expect(scheduler.processDue() == 0 && reminded.isEmpty(), "reminder before its lead time", "scheduler");
+        clock.set(Instant.parse("2026-03-02T08:55:00Z"));
+        scheduler.processDue();
+        expect(reminded.size() == 1 && reminded.get(0) == briefing, "reminder at its lead time", "scheduler");
+        expect(scheduler.pendingCount() == 0, "fired reminder still pending", "scheduler");
+
+        Task exercise = task("Exercise", "10:00", "11:00");
+        scheduler.schedule(exercise);
+        scheduler.cancel(exercise);
+        clock.set(Instant.parse("2026-03-02T09:58:00Z"));
+        scheduler.processDue();
+        expect(reminded.size() == 1 && scheduler.pendingCount() == 0, "cancelled reminder fired", "scheduler");
+
+        // Rescheduling (as an edit does) replaces the earlier reminder
+        Task lunch = task("Lunch", "12:00", "13:00");
+        scheduler.schedule(lunch);
+        lunch.setStartTime(LocalTime.parse("11:00"));
+        scheduler.schedule(lunch);
+        expect(scheduler.pendingCount() == 1, "rescheduled reminder duplicated", "scheduler");
+        clock.set(Instant.parse("2026-03-02T10:55:00Z"));
+        scheduler.processDue();
+        expect(reminded.size() == 2 && reminded.get(1) == lunch, "rescheduled reminder at its new time", "scheduler");
+        clock.set(Instant.parse("2026-03-02T11:55:00Z"));
+        scheduler.processDue();
+        expect(reminded.size() == 2, "reminder fired for the old start time", "scheduler");
+
+        // Processing that runs late but before the start still reminds
+        Task repair = task("Repair", "13:00", "14:00");
+        scheduler.schedule(repair);
+        clock.set(Instant.parse("2026-03-02T12:59:00Z"));
+        scheduler.processDue();
+        expect(reminded.size() == 3 && reminded.get(2) == repair, "late reminder before the start", "scheduler");
+
+        // Processing that runs only after the start drops the stale reminder
+        Task call = task("Call", "14:00", "14:30");
+        scheduler.schedule(call);
+        clock.set(Instant.parse("2026-03-02T14:00:30Z"));
+        scheduler.processDue();
+        expect(reminded.size() == 3 && scheduler.pendingCount() == 0, "stale reminder delivered", "scheduler");
+
+        // Tasks already started, or completed, get no reminder at all
+        scheduler.schedule(task("Breakfast", "07:00", "08:00"));
+        Task done = task("Done", "16:00", "17:00");
+        done.markCompleted();
+        scheduler.schedule(done);
+        expect(scheduler.pendingCount() == 0, "reminder for a started or completed task", "scheduler");
+    }
+
+    /**
+     * A reminder most of a day ahead starts on level 2 of the wheel and must cascade down to fire
+     * at the exact second while the clock steps one second at a time
+     */
+    private static void checkSchedulerCascade() {
+        SteppingClock clock = new SteppingClock(Instant.parse("2026-03-02T00:00:00Z"), ZoneOffset.UTC);
+        List<Task> reminded = new ArrayList<>();
+        ReminderScheduler scheduler = new ReminderScheduler(clock, Duration.ofMinutes(5), reminded::add);
+        Task evening = task("Evening", "23:00", "23:30");
+        scheduler.schedule(evening);
+
+        Instant due = Instant.parse("2026-03-02T22:55:00Z");
+        while (clock.instant().isBefore(due)) {
+            scheduler.processDue();
+            expect(reminded.isEmpty(), "cascaded reminder fired early", "cascade at " + clock.instant());
+            clock.advance(Duration.ofSeconds(1));
+        }
+        scheduler.processDue();
+        expect(reminded.size() == 1 && reminded.get(0) == evening, "cascaded reminder at its lead time", "cascade");
+    }
+
+    private static Task task(String description, String start, String end) {
+        return new Task(description, LocalTime.parse(start), LocalTime.parse(end), Priority.MEDIUM);
+    }
+
+    private static void expect(boolean condition, String what, Object context) {
+        if (!condition) {
+            throw new IllegalStateException("Reminder check failed: " + what + " (" + context + ")");
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package manager;
+
+import java.time.LocalTime;
+import java.util.logging.Logger;
+
+/**
+ * Minute-resolution occupancy map of a single day.
+ * Each of the 1440 minutes is one bit; a task occupies the half-open range [start, end),
+ * which matches the touching-is-not-overlapping rule in Task.overlapsWith.
+ */
+public class OccupancyBitmap {
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int WORD_BITS = 64;
+    private static final int WORD_COUNT = (MINUTES_PER_DAY + WORD_BITS - 1) / WORD_BITS;
+    private static final String VECTOR_KERNEL = "manager.vector.VectorOccupancyKernel";
+    private static final Logger logger = Logger.getLogger(OccupancyBitmap.class.getName());
+    private static final OccupancyKernel KERNEL = loadKernel();
+
+    private final long[] words;
+
+    /**
+     * Plain Long.bitCount loops; HotSpot compiles these to POPCNT
+     */
+    public static final class ScalarKernel implements OccupancyKernel {
+        @Override
+        public int bitCount(long[] words, int from, int to) {
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                count += Long.bitCount(words[i]);
+            }
+            return count;
+        }
+
+        @Override
+        public boolean allZero(long[] words, int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (words[i] != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    public OccupancyBitmap() {
+        words = new long[WORD_COUNT];
+    }
+
+    private OccupancyBitmap(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Converts a time of day to its minute index (0-1439)
+     */
+    public static int toMinute(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    public void occupy(LocalTime start, LocalTime end) {
+        occupy(toMinute(start), toMinute(end));
+    }
+
+    public void release(LocalTime start, LocalTime end) {
+        release(toMinute(start), toMinute(end));
+    }
+
+    public boolean isFree(LocalTime start, LocalTime end) {
+        return isFree(toMinute(start), toMinute(end));
+    }
+
+    /**
+     * Marks minutes [start, end) as busy
+     */
+    public void occupy(int start, int end) {
+        checkRange(start, end);
+        if (start == end) {
+            return;
+        }
+        int first = start >>> 6;
+        int last = (end - 1) >>> 6;
+        long firstMask = -1L << start;
+        long lastMask = -1L >>> -end;
+        if (first == last) {
+            words[first] |= firstMask & lastMask;
+            return;
+        }
+        words[first] |= firstMask;
+        for (int i = first + 1; i < last; i++) {
+            words[i] = -1L;
+        }
+        words[last] |= lastMask;
+    }
+
+    /**
+     * Marks minutes [start, end) as free
+     */
+    public void release(int start, int end) {
+        checkRange(start, end);
+        if (start == end) {
+            return;
+        }
+        int first = start >>> 6;
+        int last = (end - 1) >>> 6;
+        long firstMask = -1L << start;
+        long lastMask = -1L >>> -end;
+        if (first == last) {
+            words[first] &= ~(firstMask & lastMask);
+            return;
+        }
+        words[first] &= ~firstMask;
+        for (int i = first + 1; i < last; i++) {
+            words[i] = 0L;
+        }
+        words[last] &= ~lastMask;
+    }
+
+    /**
+     * Checks whether no minute in [start, end) is busy
+     */
+    public boolean isFree(int start, int end) {
+        checkRange(start, end);
+        if (start == end) {
+            return true;
+        }
+        int first = start >>> 6;
+        int last = (end - 1) >>> 6;
+        long firstMask = -1L << start;
+        long lastMask = -1L >>> -end;
+        if (first == last) {
+            return (words[first] & firstMask & lastMask) == 0;
+        }
+        if ((words[first] & firstMask) != 0 || (words[last] & lastMask) != 0) {
+            return false;
+        }
+        return KERNEL.allZero(words, first + 1, last);
+    }
+
+    /**
+     * Counts busy minutes in [start, end)
+     */
+    public int busyMinutes(int start, int end) {
+        checkRange(start, end);
+        if (start == end) {
+            return 0;
+        }
+        int first = start >>> 6;
+        int last = (end - 1) >>> 6;
+        long firstMask = -1L << start;
+        long lastMask = -1L >>> -end;
+        if (first == last) {
+            return Long.bitCount(words[first] & firstMask & lastMask);
+        }
+        return Long.bitCount(words[first] & firstMask) + Long.bitCount(words[last] & lastMask)
+            + KERNEL.bitCount(words, first + 1, last);
+    }
+
+    /**
+     * Total busy minutes in the day
+     */
+    public int busyMinutes() {
+        return KERNEL.bitCount(words, 0, WORD_COUNT);
+    }
+
+    /**
+     * Fraction of each hour (0.0 - 1.0) that is busy, indexed by hour of day
+     */
+    public double[] utilizationPerHour() {
+        double[] utilization = new double[24];
+        for (int hour = 0; hour < 24; hour++) {
+            utilization[hour] = busyMinutes(hour * 60, hour * 60 + 60) / 60.0;
+        }
+        return utilization;
+    }
+
+    /**
+     * Length in minutes of the longest run of free minutes in the day
+     */
+    public int longestFreeGap() {
+        int longest = 0;
+        int current = 0;
+        for (int i = 0; i < WORD_COUNT; i++) {
+            int bits = Math.min(WORD_BITS, MINUTES_PER_DAY - i * WORD_BITS);
+            long free = ~words[i];
+            if (bits < WORD_BITS) {
+                free &= (1L << bits) - 1;
+            }
+
+            if (free == 0) {
+                longest = Math.max(longest, current);
+                current = 0;
+                continue;
+            }
+            if (bits == WORD_BITS && free == -1L) {
+                current += WORD_BITS;
+                continue;
+            }
+
+            // Walk the alternating runs of free and busy bits inside this word
+            int pos = 0;
+            while (pos < bits) {
+                long remaining = free >>> pos;
+                if (remaining == 0) {
+                    longest = Math.max(longest, current);
+                    current = 0;
+                    break;
+                }
+                int busyRun = Long.numberOfTrailingZeros(remaining);
+                if (busyRun > 0) {
+                    longest = Math.max(longest, current);
+                    current = 0;
+                    pos += busyRun;
+                    remaining >>>= busyRun;
+                }
+                int freeRun = Math.min(Long.numberOfTrailingZeros(~remaining), bits - pos);
+                current += freeRun;
+                pos += freeRun;
+            }
+        }
+        return Math.max(longest, current);
+    }
+
+    public void clear() {
+        for (int i = 0; i < WORD_COUNT; i++) {
+            words[i] = 0L;
+        }
+    }
+
+    public OccupancyBitmap copy() {
+        return new OccupancyBitmap(words.clone());
+    }
+
+    /**
+     * Name of the kernel in use, for diagnostics and benchmarks
+     */
+    public static String kernelName() {
+        return KERNEL.getClass().getSimpleName();
+    }
+
+    /**
+     * Uses the Vector API kernel when it was compiled and jdk.incubator.vector is resolved
+     * (run with --add-modules jdk.incubator.vector); otherwise falls back to the scalar kernel.
+     */
+    private static OccupancyKernel loadKernel() {
+        try {
+            return (OccupancyKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            logger.fine("Vector API unavailable, using scalar occupancy kernel");
+            return new ScalarKernel();
+        }
+    }
+
+    private static void checkRange(int start, int end) {
+        if (start < 0 || end > MINUTES_PER_DAY || start > end) {
+            throw new IllegalArgumentException("Invalid minute range: " + start + "-" + end);
+        }
+    }
+}
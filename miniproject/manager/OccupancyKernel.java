@@ -0,0 +1,18 @@
+package manager;
+
+/**
+ * Word-range primitives behind OccupancyBitmap.
+ * The scalar implementation is always available; a Vector API implementation is
+ * picked up at runtime when the jdk.incubator.vector module is present.
+ */
+public interface OccupancyKernel {
+    /**
+     * Counts set bits in words[from, to)
+     */
+    int bitCount(long[] words, int from, int to);
+
+    /**
+     * Checks whether every word in words[from, to) is zero
+     */
+    boolean allZero(long[] words, int from, int to);
+}
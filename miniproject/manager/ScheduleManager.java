@@ -1,28 +1,42 @@
 package manager;
 
 import observers.IObserver;
+import reminders.ReminderScheduler;
 import tasks.Task;
 import tasks.TaskFactory;
 import tasks.Priority;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.*;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Singleton class that manages all tasks in the schedule.
- * Implements thread-safe singleton pattern.
+ * Implements thread-safe singleton pattern; every public method synchronizes on the manager,
+ * so the reminder timer thread and the console thread never see the schedule mid-update.
  */
 public class ScheduleManager {
+    private static final Duration DEFAULT_REMINDER_LEAD = Duration.ofMinutes(5);
     private static ScheduleManager instance;
     private final List<Task> tasks;
     private final List<IObserver> observers;
     private final TaskFactory taskFactory;
+    private final OccupancyBitmap occupancy;
+    private ReminderScheduler reminders;
+    private ScheduledExecutorService reminderTimer;
     private static final Logger logger = Logger.getLogger(ScheduleManager.class.getName());
 
     private ScheduleManager() {
         tasks = new ArrayList<>();
         observers = new ArrayList<>();
         taskFactory = new TaskFactory();
+        occupancy = new OccupancyBitmap();
+        reminders = createReminderScheduler(Clock.systemDefaultZone(), DEFAULT_REMINDER_LEAD);
         logger.info("ScheduleManager initialized");
     }
 
@@ -37,71 +51,153 @@ public class ScheduleManager {
     }
 
     // Observer management
-    public void addObserver(IObserver observer) {
+    public synchronized void addObserver(IObserver observer) {
         observers.add(observer);
-        logger.info("Observer added: " + observer.getClass().getSimpleName());
+        if (logger.isLoggable(Level.INFO)) {
+            logger.info("Observer added: " + observer.getClass().getSimpleName());
+        }
     }
 
-    public void removeObserver(IObserver observer) {
+    public synchronized void removeObserver(IObserver observer) {
         observers.remove(observer);
     }
 
-    private void notifyObservers(String event, Task task, Task conflictingTask) {
-        for (IObserver observer : observers) {
-            observer.update(event, task, conflictingTask);
+    /**
+     * Replaces the reminder clock and lead time, rescheduling reminders for all current tasks
+     */
+    public synchronized void configureReminders(Clock clock, Duration leadTime) {
+        reminders = createReminderScheduler(clock, leadTime);
+        for (Task task : tasks) {
+            reminders.schedule(task);
         }
     }
 
+    private ReminderScheduler createReminderScheduler(Clock clock, Duration leadTime) {
+        return new ReminderScheduler(clock, leadTime, task -> notifyObservers("REMINDER", task, null));
+    }
+
     /**
-     * Adds a new task to the schedule
-     * @return true if task added successfully, false if conflict or validation error
+     * Fires REMINDER events for tasks whose start time is approaching
+     * @return number of reminders fired
      */
-    public boolean addTask(String description, String startTime, String endTime, String priority) {
-        try {
-            Task newTask = taskFactory.createTask(description, startTime, endTime, priority);
+    public synchronized int processReminders() {
+        return reminders.processDue();
+    }
 
-            // Check for conflicts
-            Task conflictingTask = findConflictingTask(newTask);
-            if (conflictingTask != null) {
-                notifyObservers("CONFLICT", newTask, conflictingTask);
-                return false;
+    /**
+     * Starts a background timer that fires due reminders as their time arrives,
+     * independently of user input
+     */
+    public synchronized void startReminderTimer(long period, TimeUnit unit) {
+        if (reminderTimer != null) {
+            return;
+        }
+        reminderTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reminder-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reminderTimer.scheduleAtFixedRate(() -> {
+            try {
+                processReminders();
+            } catch (RuntimeException e) {
+                // An exception would silently cancel the periodic task
+                logger.warning("Reminder processing failed: " + e.getMessage());
             }
+        }, 0, period, unit);
+    }
 
-            tasks.add(newTask);
-            sortTasksByStartTime();
-            notifyObservers("ADDED", newTask, null);
-            return true;
+    public synchronized void stopReminderTimer() {
+        if (reminderTimer != null) {
+            reminderTimer.shutdownNow();
+            reminderTimer = null;
+        }
+    }
 
+    /**
+     * Notifies every observer of a change that has already been applied. A failing observer is
+     * logged and skipped, so it can neither make the mutation look failed nor hide the event from the rest.
+     */
+    private void notifyObservers(String event, Task task, Task conflictingTask) {
+        for (int i = 0; i < observers.size(); i++) {
+            IObserver observer = observers.get(i);
+            try {
+                observer.update(event, task, conflictingTask);
+            } catch (RuntimeException e) {
+                logger.warning("Observer " + observer.getClass().getSimpleName() + " failed on "
+                    + event + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Adds a new task to the schedule
+     * @return true if task added successfully, false if conflict or validation error
+     */
+    public synchronized boolean addTask(String description, String startTime, String endTime, String priority) {
+        Task newTask;
+        try {
+            newTask = taskFactory.createTask(description, startTime, endTime, priority);
         } catch (IllegalArgumentException e) {
             System.out.println(e.getMessage());
             logger.warning("Failed to add task: " + e.getMessage());
             return false;
         }
+
+        // Check for conflicts
+        Task conflictingTask = findConflictingTask(newTask);
+        if (conflictingTask != null) {
+            notifyObservers("CONFLICT", newTask, conflictingTask);
+            return false;
+        }
+
+        insertByStartTime(newTask);
+        occupancy.occupy(newTask.getStartTime(), newTask.getEndTime());
+        reminders.schedule(newTask);
+        notifyObservers("ADDED", newTask, null);
+        return true;
     }
 
     /**
-     * Finds if the new task conflicts with any existing task
+     * Finds if the new task conflicts with any existing task.
+     * The occupancy bitmap answers the common no-conflict case without walking the task list.
      */
     private Task findConflictingTask(Task newTask) {
-        for (Task existingTask : tasks) {
-            if (newTask.overlapsWith(existingTask)) {
-                return existingTask;
+        if (occupancy.isFree(newTask.getStartTime(), newTask.getEndTime())) {
+            return null;
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+            if (newTask.overlapsWith(tasks.get(i))) {
+                return tasks.get(i);
             }
         }
         return null;
     }
 
+    /**
+     * Finds the index of the first task with the given description (case-insensitive)
+     * @return the index, or -1 if no task matches
+     */
+    private int findTaskIndex(String description) {
+        for (int i = 0; i < tasks.size(); i++) {
+            if (tasks.get(i).getDescription().equalsIgnoreCase(description)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Removes a task by description
      */
-    public boolean removeTask(String description) {
-        Optional<Task> taskToRemove = tasks.stream()
-            .filter(t -> t.getDescription().equalsIgnoreCase(description))
-            .findFirst();
-
-        if (taskToRemove.isPresent()) {
-            tasks.remove(taskToRemove.get());
-            notifyObservers("REMOVED", taskToRemove.get(), null);
+    public synchronized boolean removeTask(String description) {
+        int index = findTaskIndex(description);
+
+        if (index >= 0) {
+            Task taskToRemove = tasks.remove(index);
+            occupancy.release(taskToRemove.getStartTime(), taskToRemove.getEndTime());
+            reminders.cancel(taskToRemove);
+            notifyObservers("REMOVED", taskToRemove, null);
             return true;
         } else {
             System.out.println("Error: Task not found.");
@@ -113,56 +209,61 @@ public class ScheduleManager {
     /**
      * Edits an existing task
      */
-    public boolean editTask(String description, String newDescription, String newStartTime,
+    public synchronized boolean editTask(String description, String newDescription, String newStartTime,
                            String newEndTime, String newPriority) {
-        Optional<Task> taskToEdit = tasks.stream()
-            .filter(t -> t.getDescription().equalsIgnoreCase(description))
-            .findFirst();
+        int index = findTaskIndex(description);
 
-        if (!taskToEdit.isPresent()) {
+        if (index < 0) {
             System.out.println("Error: Task not found.");
             return false;
         }
 
+        Task tempTask;
         try {
-            Task tempTask = taskFactory.createTask(newDescription, newStartTime, newEndTime, newPriority);
-            Task currentTask = taskToEdit.get();
+            tempTask = taskFactory.createTask(newDescription, newStartTime, newEndTime, newPriority);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            return false;
+        }
+        Task currentTask = tasks.get(index);
 
-            // Check for conflicts with other tasks (excluding current task)
+        // Check for conflicts with other tasks (excluding current task)
+        occupancy.release(currentTask.getStartTime(), currentTask.getEndTime());
+        if (!occupancy.isFree(tempTask.getStartTime(), tempTask.getEndTime())) {
             for (Task existingTask : tasks) {
-                if (!existingTask.getId().equals(currentTask.getId()) && tempTask.overlapsWith(existingTask)) {
+                if (existingTask != currentTask && tempTask.overlapsWith(existingTask)) {
+                    occupancy.occupy(currentTask.getStartTime(), currentTask.getEndTime());
                     notifyObservers("CONFLICT", tempTask, existingTask);
                     return false;
                 }
             }
+        }
 
-            // Update task
-            currentTask.setDescription(newDescription);
-            currentTask.setStartTime(tempTask.getStartTime());
-            currentTask.setEndTime(tempTask.getEndTime());
-            currentTask.setPriority(tempTask.getPriority());
-
-            sortTasksByStartTime();
-            notifyObservers("UPDATED", currentTask, null);
-            return true;
+        // Update task
+        tasks.remove(index);
+        currentTask.setDescription(newDescription);
+        currentTask.setStartTime(tempTask.getStartTime());
+        currentTask.setEndTime(tempTask.getEndTime());
+        currentTask.setPriority(tempTask.getPriority());
+        occupancy.occupy(currentTask.getStartTime(), currentTask.getEndTime());
+        reminders.schedule(currentTask);
+        insertByStartTime(currentTask);
 
-        } catch (IllegalArgumentException e) {
-            System.out.println(e.getMessage());
-            return false;
-        }
+        notifyObservers("UPDATED", currentTask, null);
+        return true;
     }
 
     /**
      * Marks a task as completed
      */
-    public boolean markTaskCompleted(String description) {
-        Optional<Task> task = tasks.stream()
-            .filter(t -> t.getDescription().equalsIgnoreCase(description))
-            .findFirst();
-
-        if (task.isPresent()) {
-            task.get().markCompleted();
-            notifyObservers("COMPLETED", task.get(), null);
+    public synchronized boolean markTaskCompleted(String description) {
+        int index = findTaskIndex(description);
+
+        if (index >= 0) {
+            Task task = tasks.get(index);
+            task.markCompleted();
+            reminders.cancel(task);
+            notifyObservers("COMPLETED", task, null);
             return true;
         } else {
             System.out.println("Error: Task not found.");
@@ -173,7 +274,7 @@ public class ScheduleManager {
     /**
      * Displays all tasks sorted by start time
      */
-    public void viewAllTasks() {
+    public synchronized void viewAllTasks() {
         if (tasks.isEmpty()) {
             System.out.println("No tasks scheduled for the day.");
             return;
@@ -189,7 +290,7 @@ public class ScheduleManager {
     /**
      * Views tasks filtered by priority level
      */
-    public void viewTasksByPriority(Priority priority) {
+    public synchronized void viewTasksByPriority(Priority priority) {
         List<Task> filteredTasks = new ArrayList<>();
         for (Task task : tasks) {
             if (task.getPriority() == priority) {
@@ -210,13 +311,31 @@ public class ScheduleManager {
     }
 
     /**
-     * Sorts tasks by start time for optimal viewing
+     * Inserts a task at its start-time position, keeping the list sorted for optimal viewing.
+     * Scheduled tasks never overlap, so start times are unique and a binary search finds the slot.
      */
-    private void sortTasksByStartTime() {
-        tasks.sort(Comparator.comparing(Task::getStartTime));
+    private void insertByStartTime(Task task) {
+        int low = 0;
+        int high = tasks.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (tasks.get(mid).getStartTime().isBefore(task.getStartTime())) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        tasks.add(low, task);
     }
 
-    public List<Task> getTasks() {
+    public synchronized List<Task> getTasks() {
         return new ArrayList<>(tasks);
     }
+
+    /**
+     * Returns a snapshot of the minute-level occupancy of the schedule
+     */
+    public synchronized OccupancyBitmap getOccupancy() {
+        return occupancy.copy();
+    }
 }
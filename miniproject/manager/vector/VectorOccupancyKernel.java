@@ -0,0 +1,54 @@
+package manager.vector;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import manager.OccupancyKernel;
+
+/**
+ * Vector API implementation of the occupancy primitives.
+ * Compiled and loaded only when jdk.incubator.vector is available:
+ *   javac --add-modules jdk.incubator.vector manager/vector/*.java
+ *   java --add-modules jdk.incubator.vector Main
+ * The popcount is done lane-wise with the SWAR bit trick so it does not depend on
+ * VectorOperators.BIT_COUNT, which older incubator releases lack.
+ */
+public class VectorOccupancyKernel implements OccupancyKernel {
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    @Override
+    public int bitCount(long[] words, int from, int to) {
+        int i = from;
+        long count = 0;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            LongVector v = LongVector.fromArray(SPECIES, words, i);
+            v = v.sub(v.lanewise(VectorOperators.LSHR, 1).and(0x5555555555555555L));
+            v = v.and(0x3333333333333333L).add(v.lanewise(VectorOperators.LSHR, 2).and(0x3333333333333333L));
+            v = v.add(v.lanewise(VectorOperators.LSHR, 4)).and(0x0F0F0F0F0F0F0F0FL);
+            v = v.mul(0x0101010101010101L).lanewise(VectorOperators.LSHR, 56);
+            count += v.reduceLanes(VectorOperators.ADD);
+        }
+        for (; i < to; i++) {
+            count += Long.bitCount(words[i]);
+        }
+        return (int) count;
+    }
+
+    @Override
+    public boolean allZero(long[] words, int from, int to) {
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            if (LongVector.fromArray(SPECIES, words, i).reduceLanes(VectorOperators.OR) != 0) {
+                return false;
+            }
+        }
+        for (; i < to; i++) {
+            if (words[i] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
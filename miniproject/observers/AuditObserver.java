@@ -0,0 +1,28 @@
+package observers;
+
+import audit.AuditStore;
+import tasks.Task;
+
+import java.io.IOException;
+import java.util.logging.Logger;
+
+/**
+ * Observer that records every schedule event in the queryable audit history
+ */
+public class AuditObserver implements IObserver {
+    private static final Logger logger = Logger.getLogger(AuditObserver.class.getName());
+    private final AuditStore store;
+
+    public AuditObserver(AuditStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public void update(String event, Task task, Task conflictingTask) {
+        try {
+            store.append(event, task.getId(), task.getDescription());
+        } catch (IOException e) {
+            logger.warning("Failed to record audit event: " + e.getMessage());
+        }
+    }
+}
@@ -26,6 +26,9 @@ public class ConflictObserver implements IObserver {
             case "COMPLETED":
                 System.out.println("✓ Task marked as completed: " + task.getDescription());
                 break;
+            case "REMINDER":
+                System.out.println("⏰ Reminder: \"" + task.getDescription() + "\" starts at " + task.getStartTime());
+                break;
         }
     }
 }
\ No newline at end of file
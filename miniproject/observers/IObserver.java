@@ -8,8 +8,9 @@ import tasks.Task;
  */
 public interface IObserver {
     /**
-     * Called when a schedule event occurs
-     * @param event The type of event (ADDED, REMOVED, UPDATED, CONFLICT, COMPLETED)
+     * Called when a schedule event occurs, after the schedule has changed.
+     * Exceptions thrown here are logged and do not undo the change or stop other observers.
+     * @param event The type of event (ADDED, REMOVED, UPDATED, CONFLICT, COMPLETED, REMINDER)
      * @param task The task involved in the event
      * @param conflictingTask The conflicting task (only for CONFLICT events)
      */
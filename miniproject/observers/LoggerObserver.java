@@ -3,11 +3,14 @@ package observers;
 import tasks.Task;
 import java.util.logging.*;
 import java.io.IOException;
+import java.util.Locale;
 
 /**
  * Observer that logs all schedule events to a file
  */
 public class LoggerObserver implements IObserver {
+    /** System property overriding the log level, e.g. -Dastronaut.log.level=WARNING */
+    public static final String LOG_LEVEL_PROPERTY = "astronaut.log.level";
     private static final Logger logger = Logger.getLogger(LoggerObserver.class.getName());
 
     static {
@@ -18,6 +21,7 @@ public class LoggerObserver implements IObserver {
         try {
             LogManager.getLogManager().reset();
             logger.setLevel(Level.ALL);
+            applyConfiguredLevel();
 
             // Console handler for warnings and errors
             ConsoleHandler consoleHandler = new ConsoleHandler();
@@ -36,24 +40,57 @@ public class LoggerObserver implements IObserver {
         }
     }
 
+    /**
+     * Applies the level from LOG_LEVEL_PROPERTY to the application's loggers, so disabled
+     * messages are skipped before they are built
+     */
+    private static void applyConfiguredLevel() {
+        String configuredLevel = System.getProperty(LOG_LEVEL_PROPERTY);
+        if (configuredLevel == null) {
+            return;
+        }
+        try {
+            Level level = Level.parse(configuredLevel.trim().toUpperCase(Locale.ROOT));
+            Logger.getLogger("").setLevel(level);
+            logger.setLevel(level);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid log level: " + configuredLevel);
+        }
+    }
+
     @Override
     public void update(String event, Task task, Task conflictingTask) {
         switch (event) {
             case "CONFLICT":
-                logger.warning(String.format("Task conflict: '%s' conflicts with '%s'",
-                    task.getDescription(), conflictingTask.getDescription()));
+                if (logger.isLoggable(Level.WARNING)) {
+                    logger.warning("Task conflict: '" + task.getDescription() + "' conflicts with '"
+                        + conflictingTask.getDescription() + "'");
+                }
                 break;
             case "ADDED":
-                logger.info("Task added: " + task.getDescription());
+                if (logger.isLoggable(Level.INFO)) {
+                    logger.info("Task added: " + task.getDescription());
+                }
                 break;
             case "REMOVED":
-                logger.info("Task removed: " + task.getDescription());
+                if (logger.isLoggable(Level.INFO)) {
+                    logger.info("Task removed: " + task.getDescription());
+                }
                 break;
             case "UPDATED":
-                logger.info("Task updated: " + task.getDescription());
+                if (logger.isLoggable(Level.INFO)) {
+                    logger.info("Task updated: " + task.getDescription());
+                }
                 break;
             case "COMPLETED":
-                logger.info("Task completed: " + task.getDescription());
+                if (logger.isLoggable(Level.INFO)) {
+                    logger.info("Task completed: " + task.getDescription());
+                }
+                break;
+            case "REMINDER":
+                if (logger.isLoggable(Level.INFO)) {
+                    logger.info("Task reminder: " + task.getDescription());
+                }
                 break;
         }
     }
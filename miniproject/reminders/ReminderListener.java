@@ -0,0 +1,14 @@
+package reminders;
+
+import tasks.Task;
+
+/**
+ * Callback invoked when a task reminder becomes due
+ */
+public interface ReminderListener {
+    /**
+     * Called once per due reminder
+     * @param task The task whose start time is approaching
+     */
+    void onReminder(Task task);
+}
@@ -0,0 +1,111 @@
+package reminders;
+
+import tasks.Task;
+import tasks.TaskStatus;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Schedules "starting soon" reminders for tasks on a timing wheel.
+ * The clock is injected so reminders can be driven deterministically.
+ * Not thread-safe: ScheduleManager serializes every call, including the timer that drives processDue.
+ */
+public class ReminderScheduler {
+    private static final long TICK_MILLIS = 1000;
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+    private final Clock clock;
+    private final long leadMillis;
+    private final ReminderListener listener;
+    private final ReminderListener dispatcher;
+    private final TimingWheel wheel;
+    private final Map<Task, TimingWheel.Timeout> pending;
+    private LocalDate day;
+    private long dayStartMillis;
+    private long dayEndMillis;
+
+    public ReminderScheduler(Clock clock, Duration leadTime, ReminderListener listener) {
+        if (leadTime.isNegative()) {
+            throw new IllegalArgumentException("Reminder lead time cannot be negative");
+        }
+        this.clock = clock;
+        this.leadMillis = leadTime.toMillis();
+        this.listener = listener;
+        this.dispatcher = this::fire;
+        this.wheel = new TimingWheel(TICK_MILLIS, clock.millis());
+        this.pending = new IdentityHashMap<>();
+    }
+
+    /**
+     * Schedules (or reschedules) the reminder for a task.
+     * Completed tasks and tasks whose start time has already passed today get no reminder.
+     */
+    public void schedule(Task task) {
+        cancel(task);
+        if (task.getStatus() == TaskStatus.COMPLETED) {
+            return;
+        }
+        long now = clock.millis();
+        long startMillis = startMillisToday(task, now);
+        if (startMillis <= now) {
+            return;
+        }
+        pending.put(task, wheel.schedule(task, startMillis - leadMillis));
+    }
+
+    /**
+     * Cancels the pending reminder for a task, if any
+     */
+    public void cancel(Task task) {
+        TimingWheel.Timeout timeout = pending.remove(task);
+        if (timeout != null) {
+            wheel.cancel(timeout);
+        }
+    }
+
+    /**
+     * Fires every reminder that is due according to the clock
+     * @return number of reminders fired
+     */
+    public int processDue() {
+        return wheel.advanceTo(clock.millis(), dispatcher);
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Converts the task's start time to epoch millis on the current day.
+     * The day boundaries are cached, so outside of DST-transition days this is plain arithmetic.
+     */
+    private long startMillisToday(Task task, long now) {
+        if (day == null || now < dayStartMillis || now >= dayEndMillis) {
+            ZoneId zone = clock.getZone();
+            day = Instant.ofEpochMilli(now).atZone(zone).toLocalDate();
+            dayStartMillis = day.atStartOfDay(zone).toInstant().toEpochMilli();
+            dayEndMillis = day.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        }
+        if (dayEndMillis - dayStartMillis == MILLIS_PER_DAY) {
+            return dayStartMillis + task.getStartTime().toSecondOfDay() * 1000L;
+        }
+        return day.atTime(task.getStartTime()).atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Delivers a due reminder, unless processing ran so late that the task has already started
+     */
+    private void fire(Task task) {
+        TimingWheel.Timeout timeout = pending.remove(task);
+        if (timeout != null && timeout.getDeadlineMillis() + leadMillis <= clock.millis()) {
+            return;
+        }
+        listener.onReminder(task);
+    }
+}
@@ -0,0 +1,164 @@
+package reminders;
+
+import tasks.Task;
+
+/**
+ * Hierarchical timing wheel holding pending task reminders.
+ * Four levels of 64 slots each; level 0 advances one slot per tick and every higher level
+ * advances once per full turn of the level below, cascading its entries down as it goes.
+ * Scheduling and cancelling are O(1); advancing costs O(1) per tick plus the entries that fire or cascade.
+ */
+public class TimingWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELTA = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final long tickMillis;
+    private final Timeout[][] wheels;
+    private long currentTick;
+    private int size;
+
+    /**
+     * Handle for a scheduled reminder, used to cancel it
+     */
+    public static final class Timeout {
+        private final Task task;
+        private final long deadlineMillis;
+        private final long deadlineTick;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(Task task, long deadlineMillis, long deadlineTick) {
+            this.task = task;
+            this.deadlineMillis = deadlineMillis;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public Task getTask() { return task; }
+
+        public long getDeadlineMillis() { return deadlineMillis; }
+
+        public boolean isPending() { return prev != null; }
+    }
+
+    public TimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        this.wheels = new Timeout[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                // Sentinel heads keep insert and unlink branch-free
+                Timeout head = new Timeout(null, 0, 0);
+                head.prev = head;
+                head.next = head;
+                wheels[level][slot] = head;
+            }
+        }
+    }
+
+    /**
+     * Schedules a reminder for the task at the given time. Deadlines already passed fire on the next tick.
+     */
+    public Timeout schedule(Task task, long deadlineMillis) {
+        Timeout timeout = new Timeout(task, deadlineMillis, Math.max(deadlineMillis / tickMillis, currentTick));
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Cancels a pending reminder
+     * @return true if the reminder was still pending
+     */
+    public boolean cancel(Timeout timeout) {
+        if (!timeout.isPending()) {
+            return false;
+        }
+        unlink(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Advances the wheel up to the given time, firing every reminder that has become due
+     * @return number of reminders fired
+     */
+    public int advanceTo(long nowMillis, ReminderListener listener) {
+        long targetTick = nowMillis / tickMillis;
+        int fired = 0;
+        while (currentTick <= targetTick) {
+            if (size == 0) {
+                // Nothing pending, so there is nothing to cascade either
+                currentTick = targetTick + 1;
+                break;
+            }
+            cascade();
+            Timeout head = wheels[0][(int) (currentTick & SLOT_MASK)];
+            while (head.next != head) {
+                Timeout timeout = head.next;
+                unlink(timeout);
+                size--;
+                fired++;
+                listener.onReminder(timeout.task);
+            }
+            currentTick++;
+        }
+        return fired;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Moves entries of higher-level slots that start at the current tick down towards level 0
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            int shift = SLOT_BITS * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                return;
+            }
+            Timeout head = wheels[level][(int) ((currentTick >>> shift) & SLOT_MASK)];
+            Timeout timeout = head.next;
+            head.prev = head;
+            head.next = head;
+            while (timeout != head) {
+                Timeout next = timeout.next;
+                place(timeout);
+                timeout = next;
+            }
+        }
+    }
+
+    private void place(Timeout timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        long tick = timeout.deadlineTick;
+        if (delta > MAX_DELTA) {
+            // Beyond the wheel's range: park in the farthest slot and re-place on cascade
+            delta = MAX_DELTA;
+            tick = currentTick + MAX_DELTA;
+        }
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        Timeout head = wheels[level][(int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK)];
+        timeout.prev = head.prev;
+        timeout.next = head;
+        head.prev.next = timeout;
+        head.prev = timeout;
+    }
+
+    private static void unlink(Timeout timeout) {
+        timeout.prev.next = timeout.next;
+        timeout.next.prev = timeout.prev;
+        timeout.prev = null;
+        timeout.next = null;
+    }
+}
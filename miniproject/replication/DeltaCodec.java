@@ -0,0 +1,187 @@
+package replication;
+
+import manager.OccupancyBitmap;
+import tasks.Priority;
+import tasks.Task;
+import tasks.TaskStatus;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Binary wire format for schedule replication.
+ *
+ * Every frame is [int length][byte type][long sequence][body]. Task bodies carry the id as two longs,
+ * times as minutes of the day, priority and status ordinals, and the UTF-8 description.
+ */
+public final class DeltaCodec {
+    static final byte ADDED = 1;
+    static final byte UPDATED = 2;
+    static final byte REMOVED = 3;
+    static final byte COMPLETED = 4;
+    static final byte SNAPSHOT = 5;
+
+    private static final int HEADER_BYTES = 1 + 8;
+    private static final int MAX_FRAME_BYTES = 64 * 1024 * 1024;
+
+    private DeltaCodec() {
+    }
+
+    /**
+     * Encodes an ADDED or UPDATED delta carrying the full task
+     */
+    static ByteBuffer encodeTask(byte type, long sequence, Task task) {
+        byte[] description = task.getDescription().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer frame = allocate(taskBytes(description));
+        frame.put(type).putLong(sequence);
+        putTask(frame, task, description);
+        frame.flip();
+        return frame;
+    }
+
+    /**
+     * Encodes a REMOVED or COMPLETED delta carrying only the task id
+     */
+    static ByteBuffer encodeId(byte type, long sequence, Task task) {
+        ByteBuffer frame = allocate(16);
+        frame.put(type).putLong(sequence);
+        putId(frame, task.getId());
+        frame.flip();
+        return frame;
+    }
+
+    /**
+     * Encodes the whole schedule as of the given sequence
+     */
+    static ByteBuffer encodeSnapshot(long sequence, List<Task> tasks) {
+        byte[][] descriptions = new byte[tasks.size()][];
+        int bodyBytes = 4;
+        for (int i = 0; i < descriptions.length; i++) {
+            descriptions[i] = tasks.get(i).getDescription().getBytes(StandardCharsets.UTF_8);
+            bodyBytes += taskBytes(descriptions[i]);
+        }
+        ByteBuffer frame = allocate(bodyBytes);
+        frame.put(SNAPSHOT).putLong(sequence).putInt(descriptions.length);
+        for (int i = 0; i < descriptions.length; i++) {
+            putTask(frame, tasks.get(i), descriptions[i]);
+        }
+        frame.flip();
+        return frame;
+    }
+
+    static Task getTask(ByteBuffer frame) {
+        String id = getId(frame);
+        LocalTime start = LocalTime.MIDNIGHT.plusMinutes(frame.getShort());
+        LocalTime end = LocalTime.MIDNIGHT.plusMinutes(frame.getShort());
+        Priority priority = Priority.values()[frame.get()];
+        TaskStatus status = TaskStatus.values()[frame.get()];
+        byte[] description = new byte[frame.getShort() & 0xFFFF];
+        frame.get(description);
+
+        Task task = new Task(id, new String(description, StandardCharsets.UTF_8), start, end, priority);
+        if (status == TaskStatus.COMPLETED) {
+            task.markCompleted();
+        }
+        return task;
+    }
+
+    static String getId(ByteBuffer frame) {
+        return new UUID(frame.getLong(), frame.getLong()).toString();
+    }
+
+    /**
+     * Reads the next frame (without its length prefix)
+     * @return the frame, or null if the channel is at end of stream
+     */
+    static ByteBuffer readFrame(ReadableByteChannel channel, ByteBuffer lengthBuffer) throws IOException {
+        lengthBuffer.clear();
+        if (!readFully(channel, lengthBuffer, true)) {
+            return null;
+        }
+        int length = lengthBuffer.getInt(0);
+        if (length < HEADER_BYTES || length > MAX_FRAME_BYTES) {
+            throw new IOException("Corrupt replication frame length: " + length);
+        }
+        ByteBuffer frame = ByteBuffer.allocate(length);
+        readFully(channel, frame, false);
+        frame.flip();
+        return frame;
+    }
+
+    static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Sends the follower's last applied sequence back to the leader
+     */
+    public static void writeAck(WritableByteChannel channel, long sequence) throws IOException {
+        ByteBuffer ack = ByteBuffer.allocate(8).putLong(sequence);
+        ack.flip();
+        writeFully(channel, ack);
+    }
+
+    /**
+     * Reads an acknowledged sequence sent with writeAck
+     */
+    public static long readAck(ReadableByteChannel channel) throws IOException {
+        ByteBuffer ack = ByteBuffer.allocate(8);
+        if (!readFully(channel, ack, true)) {
+            throw new EOFException("Channel closed before acknowledgement");
+        }
+        return ack.getLong(0);
+    }
+
+    private static ByteBuffer allocate(int bodyBytes) {
+        ByteBuffer frame = ByteBuffer.allocate(4 + HEADER_BYTES + bodyBytes);
+        frame.putInt(HEADER_BYTES + bodyBytes);
+        return frame;
+    }
+
+    private static int taskBytes(byte[] description) {
+        if (description.length > 0xFFFF) {
+            throw new IllegalArgumentException("Task description too long to replicate");
+        }
+        return 16 + 2 + 2 + 1 + 1 + 2 + description.length;
+    }
+
+    private static void putTask(ByteBuffer frame, Task task, byte[] description) {
+        putId(frame, task.getId());
+        frame.putShort((short) OccupancyBitmap.toMinute(task.getStartTime()));
+        frame.putShort((short) OccupancyBitmap.toMinute(task.getEndTime()));
+        frame.put((byte) task.getPriority().ordinal());
+        frame.put((byte) task.getStatus().ordinal());
+        frame.putShort((short) description.length);
+        frame.put(description);
+    }
+
+    private static void putId(ByteBuffer frame, String id) {
+        UUID uuid = UUID.fromString(id);
+        frame.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * @return false if end of stream was reached before any byte was read and eofAllowed is set
+     */
+    private static boolean readFully(ReadableByteChannel channel, ByteBuffer buffer, boolean eofAllowed)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                if (eofAllowed && buffer.position() == 0) {
+                    return false;
+                }
+                throw new EOFException("Truncated replication frame");
+            }
+        }
+        return true;
+    }
+}
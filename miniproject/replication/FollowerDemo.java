@@ -0,0 +1,65 @@
+package replication;
+
+import tasks.Task;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Follower process for a schedule replicated with Main --replicate &lt;file&gt;.
+ * Tails the replication file, applies each delta as it is shipped and prints the mirrored schedule
+ * whenever it changes. Run: java replication.FollowerDemo &lt;file&gt;
+ */
+public class FollowerDemo {
+    private static final long POLL_MILLIS = 200;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length != 1) {
+            System.out.println("Usage: java replication.FollowerDemo <replication-file>");
+            return;
+        }
+
+        FollowerSchedule follower = new FollowerSchedule();
+        try (FileChannel channel = FileChannel.open(Paths.get(args[0]), StandardOpenOption.READ)) {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (applyAvailable(follower, channel) > 0) {
+                    print(follower);
+                }
+                Thread.sleep(POLL_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * Applies every complete frame currently in the file; a frame the leader is still writing
+     * is left for the next poll
+     */
+    private static int applyAvailable(FollowerSchedule follower, FileChannel channel) throws IOException {
+        int applied = 0;
+        while (true) {
+            long frameStart = channel.position();
+            try {
+                if (!follower.applyNext(channel)) {
+                    return applied;
+                }
+            } catch (EOFException e) {
+                channel.position(frameStart);
+                return applied;
+            }
+            applied++;
+        }
+    }
+
+    private static void print(FollowerSchedule follower) {
+        System.out.println("\n=== Replicated schedule (sequence " + follower.getLastAppliedSequence() + ") ===");
+        if (follower.getTasks().isEmpty()) {
+            System.out.println("No tasks scheduled for the day.");
+        }
+        for (Task task : follower.getTasks()) {
+            System.out.println(task);
+        }
+    }
+}
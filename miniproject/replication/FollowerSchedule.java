@@ -0,0 +1,115 @@
+package replication;
+
+import tasks.Task;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Follower side of schedule replication.
+ * Applies deltas from a ReplicationLog strictly in sequence order; deltas already applied are skipped,
+ * so a leader may safely resend from an older acknowledgement. Applying is idempotent per task id,
+ * which also lets a snapshot overlap with deltas that follow it.
+ */
+public class FollowerSchedule {
+    private final Map<String, Task> tasks;
+    private final ByteBuffer lengthBuffer;
+    private long lastAppliedSequence;
+
+    public FollowerSchedule() {
+        tasks = new HashMap<>();
+        lengthBuffer = ByteBuffer.allocate(4);
+    }
+
+    /**
+     * Reads and applies one frame from the channel
+     * @return false if the channel reached end of stream
+     * @throws IllegalStateException if a delta arrives out of order; the follower must then resync
+     *         by acknowledging getLastAppliedSequence() to the leader
+     */
+    public boolean applyNext(ReadableByteChannel channel) throws IOException {
+        ByteBuffer frame = DeltaCodec.readFrame(channel, lengthBuffer);
+        if (frame == null) {
+            return false;
+        }
+        apply(frame);
+        return true;
+    }
+
+    /**
+     * Applies frames until the channel reaches end of stream
+     * @return number of frames read
+     */
+    public int applyAll(ReadableByteChannel channel) throws IOException {
+        int frames = 0;
+        while (applyNext(channel)) {
+            frames++;
+        }
+        return frames;
+    }
+
+    public long getLastAppliedSequence() {
+        return lastAppliedSequence;
+    }
+
+    /**
+     * Returns a copy of the mirrored tasks sorted by start time
+     */
+    public List<Task> getTasks() {
+        List<Task> sorted = new ArrayList<>(tasks.values());
+        sorted.sort(Comparator.comparing(Task::getStartTime));
+        return sorted;
+    }
+
+    private void apply(ByteBuffer frame) {
+        byte type = frame.get();
+        long sequence = frame.getLong();
+
+        if (type == DeltaCodec.SNAPSHOT) {
+            tasks.clear();
+            int count = frame.getInt();
+            for (int i = 0; i < count; i++) {
+                Task task = DeltaCodec.getTask(frame);
+                tasks.put(task.getId(), task);
+            }
+            lastAppliedSequence = sequence;
+            return;
+        }
+
+        if (sequence <= lastAppliedSequence) {
+            return;
+        }
+        if (sequence != lastAppliedSequence + 1) {
+            throw new IllegalStateException("Replication gap: expected sequence "
+                + (lastAppliedSequence + 1) + " but received " + sequence);
+        }
+
+        switch (type) {
+            case DeltaCodec.ADDED:
+            case DeltaCodec.UPDATED: {
+                Task task = DeltaCodec.getTask(frame);
+                tasks.put(task.getId(), task);
+                break;
+            }
+            case DeltaCodec.REMOVED:
+                tasks.remove(DeltaCodec.getId(frame));
+                break;
+            case DeltaCodec.COMPLETED: {
+                Task task = tasks.get(DeltaCodec.getId(frame));
+                if (task != null) {
+                    task.markCompleted();
+                }
+                break;
+            }
+            default:
+                throw new IllegalStateException("Unknown replication frame type: " + type);
+        }
+        lastAppliedSequence = sequence;
+    }
+}
@@ -0,0 +1,105 @@
+package replication;
+
+import observers.IObserver;
+import tasks.Task;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Leader side of schedule replication.
+ * Registered as an observer, it turns every schedule mutation into a sequenced binary delta and keeps
+ * the most recent deltas so a follower can resume from its last acknowledged sequence.
+ * Followers that fall behind the retained window are resynchronised with a snapshot.
+ *
+ * Threading: update() runs on the thread mutating the schedule (holding the ScheduleManager lock);
+ * writeSince() may run on a separate shipping thread. The snapshot source is called from the shipping
+ * thread without this log's lock held, so it may (and must) take the schedule's own lock to return a
+ * consistent copy, e.g. the synchronized ScheduleManager::getTasks. Because the snapshot is taken after
+ * its sequence number is read, it can already contain the effect of a few later deltas; those deltas are
+ * then sent again and reapplied harmlessly, since every delta carries the task's full state or is idempotent.
+ */
+public class ReplicationLog implements IObserver {
+    private final Supplier<List<Task>> snapshotSource;
+    private final ByteBuffer[] backlog;
+    private long lastSequence;
+
+    /**
+     * @param snapshotSource Supplies a consistent copy of the current task list when a full resync is needed
+     * @param capacity Number of recent deltas retained for resuming followers
+     */
+    public ReplicationLog(Supplier<List<Task>> snapshotSource, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Replication backlog capacity must be positive");
+        }
+        this.snapshotSource = snapshotSource;
+        this.backlog = new ByteBuffer[capacity];
+    }
+
+    @Override
+    public synchronized void update(String event, Task task, Task conflictingTask) {
+        switch (event) {
+            case "ADDED":
+                append(DeltaCodec.encodeTask(DeltaCodec.ADDED, lastSequence + 1, task));
+                break;
+            case "UPDATED":
+                append(DeltaCodec.encodeTask(DeltaCodec.UPDATED, lastSequence + 1, task));
+                break;
+            case "REMOVED":
+                append(DeltaCodec.encodeId(DeltaCodec.REMOVED, lastSequence + 1, task));
+                break;
+            case "COMPLETED":
+                append(DeltaCodec.encodeId(DeltaCodec.COMPLETED, lastSequence + 1, task));
+                break;
+        }
+    }
+
+    /**
+     * Writes everything the follower has not yet acknowledged: the missing deltas if they are still
+     * retained, otherwise a snapshot of the whole schedule.
+     * @param acknowledgedSequence Last sequence the follower applied (0 for a fresh follower)
+     * @return the sequence the follower will be at once it applies what was written
+     */
+    public long writeSince(long acknowledgedSequence, WritableByteChannel channel) throws IOException {
+        ByteBuffer[] frames = null;
+        long upTo;
+        synchronized (this) {
+            upTo = lastSequence;
+            if (acknowledgedSequence == upTo) {
+                return upTo;
+            }
+            long oldestRetained = Math.max(1, upTo - backlog.length + 1);
+            if (acknowledgedSequence <= upTo && acknowledgedSequence + 1 >= oldestRetained) {
+                frames = new ByteBuffer[(int) (upTo - acknowledgedSequence)];
+                for (int i = 0; i < frames.length; i++) {
+                    frames[i] = backlog[slot(acknowledgedSequence + 1 + i)].duplicate();
+                }
+            }
+        }
+        if (frames == null) {
+            // Taken outside this lock: the source takes the schedule's lock, which update() callers already hold
+            frames = new ByteBuffer[] { DeltaCodec.encodeSnapshot(upTo, snapshotSource.get()) };
+        }
+        // Frames are immutable once appended, so the channel I/O happens outside the lock
+        for (ByteBuffer frame : frames) {
+            DeltaCodec.writeFully(channel, frame);
+        }
+        return upTo;
+    }
+
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    private void append(ByteBuffer frame) {
+        lastSequence++;
+        backlog[slot(lastSequence)] = frame;
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % backlog.length);
+    }
+}
@@ -0,0 +1,87 @@
+package replication;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Ships a ReplicationLog to a follower over a byte channel (a file, a socket, a pipe).
+ * Runs on its own daemon thread, so it never holds the schedule lock while writing; the log hands
+ * out retained deltas, or a snapshot taken through its snapshot source, for whatever was not shipped yet.
+ * Over a one-way channel the shipper treats everything it wrote as acknowledged.
+ */
+public class ReplicationShipper implements AutoCloseable {
+    private static final Logger logger = Logger.getLogger(ReplicationShipper.class.getName());
+
+    private final ReplicationLog log;
+    private final WritableByteChannel channel;
+    private ScheduledExecutorService timer;
+    private long shippedSequence;
+
+    public ReplicationShipper(ReplicationLog log, WritableByteChannel channel) {
+        this.log = log;
+        this.channel = channel;
+    }
+
+    /**
+     * Ships pending deltas every period on a background thread
+     */
+    public synchronized void start(long period, TimeUnit unit) {
+        if (timer != null) {
+            return;
+        }
+        timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replication-shipper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.scheduleWithFixedDelay(() -> {
+            try {
+                shipPending();
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Replication shipping failed: " + e.getMessage());
+            }
+        }, 0, period, unit);
+    }
+
+    /**
+     * Writes everything recorded since the last shipment
+     * @return the sequence the follower is at once it applies what has been shipped
+     */
+    public synchronized long shipPending() throws IOException {
+        shippedSequence = log.writeSince(shippedSequence, channel);
+        return shippedSequence;
+    }
+
+    public synchronized long getShippedSequence() {
+        return shippedSequence;
+    }
+
+    /**
+     * Stops the timer, ships the final deltas and closes the channel
+     */
+    @Override
+    public void close() throws IOException {
+        ScheduledExecutorService stopping;
+        synchronized (this) {
+            stopping = timer;
+            timer = null;
+        }
+        if (stopping != null) {
+            stopping.shutdown();
+            try {
+                stopping.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            shipPending();
+        } finally {
+            channel.close();
+        }
+    }
+}
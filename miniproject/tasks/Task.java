@@ -3,6 +3,7 @@ package tasks;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Represents a single task in the astronaut's schedule
@@ -16,12 +17,19 @@ public class Task {
     private final String id;
 
     public Task(String description, LocalTime startTime, LocalTime endTime, Priority priority) {
+        this(null, description, startTime, endTime, priority);
+    }
+
+    /**
+     * Creates a task with a known id, e.g. when mirroring a task from another schedule
+     */
+    public Task(String id, String description, LocalTime startTime, LocalTime endTime, Priority priority) {
         this.description = description;
         this.startTime = startTime;
         this.endTime = endTime;
         this.priority = priority;
         this.status = TaskStatus.PENDING;
-        this.id = UUID.randomUUID().toString();
+        this.id = id != null ? id : newId();
     }
 
     // Getters and Setters
@@ -52,6 +60,17 @@ public class Task {
                  this.startTime.isAfter(other.endTime) || this.startTime.equals(other.endTime));
     }
 
+    /**
+     * Random (version 4) UUID string. Ids only need to be unique, not unpredictable, so this
+     * uses ThreadLocalRandom rather than the SecureRandom behind UUID.randomUUID
+     */
+    private static String newId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSigBits = (random.nextLong() & ~(0xC000000000000000L)) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+
     @Override
     public String toString() {
         String statusIcon = status == TaskStatus.COMPLETED ? "✓" : " ";
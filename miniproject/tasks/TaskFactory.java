@@ -2,6 +2,7 @@ package tasks;
 
 import utils.ValidationHelper;
 import java.time.LocalTime;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -33,7 +34,9 @@ public class TaskFactory {
         Priority priority = ValidationHelper.parsePriority(priorityStr);
 
         Task task = new Task(description, startTime, endTime, priority);
-        logger.info("Task created: " + description);
+        if (logger.isLoggable(Level.INFO)) {
+            logger.info("Task created: " + description);
+        }
         return task;
     }
 }
\ No newline at end of file
@@ -2,8 +2,6 @@ package utils;
 
 import tasks.Priority;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.logging.Logger;
 
 /**
@@ -11,31 +9,74 @@ import java.util.logging.Logger;
  * Provides centralized validation logic
  */
 public class ValidationHelper {
+    /**
+     * Longest task description, in chars. At most 3 bytes per char in (modified) UTF-8, so any
+     * description this long fits the 16-bit length prefixes of the audit history and replication frames.
+     */
+    public static final int MAX_DESCRIPTION_LENGTH = 0xFFFF / 3;
     private static final Logger logger = Logger.getLogger(ValidationHelper.class.getName());
-    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final LocalTime[] TIMES = new LocalTime[24 * 60];
+
+    static {
+        for (int minute = 0; minute < TIMES.length; minute++) {
+            TIMES[minute] = LocalTime.of(minute / 60, minute % 60);
+        }
+    }
 
     /**
      * Validates task description
-     * @throws IllegalArgumentException if description is null or empty
+     * @throws IllegalArgumentException if description is null, empty or longer than MAX_DESCRIPTION_LENGTH
      */
     public static void validateDescription(String description) {
         if (description == null || description.trim().isEmpty()) {
             logger.warning("Attempted to create task with empty description");
             throw new IllegalArgumentException("Task description cannot be empty");
         }
+        if (description.length() > MAX_DESCRIPTION_LENGTH) {
+            logger.warning("Attempted to create task with a " + description.length() + "-character description");
+            throw new IllegalArgumentException("Error: Task description cannot be longer than "
+                + MAX_DESCRIPTION_LENGTH + " characters");
+        }
     }
 
     /**
-     * Parses time string to LocalTime
+     * Parses time string to LocalTime.
+     * Accepts exactly the HH:mm strings LocalTime.parse would (including 24:00 as midnight) and returns
+     * shared instances, so a successful parse allocates nothing.
      * @throws IllegalArgumentException if time format is invalid
      */
     public static LocalTime parseTime(String timeStr) {
-        try {
-            return LocalTime.parse(timeStr, TIME_FORMATTER);
-        } catch (DateTimeParseException e) {
+        int minuteOfDay = parseMinuteOfDay(timeStr);
+        if (minuteOfDay < 0) {
             logger.warning("Invalid time format: " + timeStr);
             throw new IllegalArgumentException("Error: Invalid time format. Use HH:mm (e.g., 09:00)");
         }
+        return TIMES[minuteOfDay];
+    }
+
+    /**
+     * @return minute of the day, or -1 if the string is not a valid HH:mm time
+     */
+    private static int parseMinuteOfDay(String timeStr) {
+        if (timeStr.length() != 5 || timeStr.charAt(2) != ':') {
+            return -1;
+        }
+        int hour = twoDigits(timeStr, 0);
+        int minute = twoDigits(timeStr, 3);
+        if (hour < 0 || minute < 0 || minute > 59 || hour > 24 || (hour == 24 && minute != 0)) {
+            return -1;
+        }
+        return (hour % 24) * 60 + minute;
+    }
+
+    private static int twoDigits(String str, int index) {
+        char tens = str.charAt(index);
+        char units = str.charAt(index + 1);
+        if (tens < '0' || tens > '9' || units < '0' || units > '9') {
+            return -1;
+        }
+        return (tens - '0') * 10 + (units - '0');
     }
 
     /**
@@ -54,11 +95,12 @@ public class ValidationHelper {
      * @throws IllegalArgumentException if priority is invalid
      */
     public static Priority parsePriority(String priorityStr) {
-        try {
-            return Priority.valueOf(priorityStr.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            logger.warning("Invalid priority level: " + priorityStr);
-            throw new IllegalArgumentException("Error: Invalid priority level. Use LOW, MEDIUM, or HIGH");
+        for (Priority priority : PRIORITIES) {
+            if (priority.name().equalsIgnoreCase(priorityStr)) {
+                return priority;
+            }
         }
+        logger.warning("Invalid priority level: " + priorityStr);
+        throw new IllegalArgumentException("Error: Invalid priority level. Use LOW, MEDIUM, or HIGH");
     }
 }
\ No newline at end of file